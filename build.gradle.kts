@@ -7,6 +7,7 @@ plugins {
     kotlin("plugin.spring") version "1.9.23"
     kotlin("plugin.jpa") version "1.9.23"
     id("org.flywaydb.flyway") version "7.12.0"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "camp.nextstep.edu"
@@ -20,7 +21,10 @@ repositories {
     mavenCentral()
 }
 
+extra["mysql.version"] = "9.0.0"
+
 dependencies {
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
     implementation("org.springframework.boot:spring-boot-starter-thymeleaf")
     implementation("org.springframework.boot:spring-boot-starter-validation")
@@ -28,6 +32,9 @@ dependencies {
     implementation("com.fasterxml.jackson.module:jackson-module-kotlin")
     implementation("org.flywaydb:flyway-core")
     implementation("org.flywaydb:flyway-mysql")
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("org.hibernate.orm:hibernate-micrometer")
+    implementation("org.ehcache:ehcache::jakarta")
     implementation("org.jetbrains.kotlin:kotlin-reflect")
     runtimeOnly("com.h2database:h2")
     runtimeOnly("com.mysql:mysql-connector-j")
@@ -45,6 +52,38 @@ tasks.withType<Test> {
     useJUnitPlatform()
 }
 
+tasks.test {
+    useJUnitPlatform {
+        excludeTags("throughput")
+    }
+}
+
+tasks.register<Test>("throughputTest") {
+    description = "Runs the throughput harnesses excluded from the test task."
+    group = "verification"
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    useJUnitPlatform {
+        includeTags("throughput")
+    }
+    testLogging {
+        showStandardStreams = true
+    }
+    System.getProperties()
+        .filterKeys { it.toString().startsWith("spring.datasource.") }
+        .forEach { (key, value) -> systemProperty(key.toString(), value) }
+}
+
+tasks.bootRun {
+    jvmArgs("-Djdk.tracePinnedThreads=short")
+}
+
+jmh {
+    warmupIterations = 2
+    iterations = 5
+    fork = 1
+}
+
 flyway {
     url = "jdbc:mysql://localhost:33306/kitchenpos"
     user = "user"
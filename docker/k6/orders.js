@@ -0,0 +1,38 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+const host = __ENV.HOST || 'http://localhost:8080';
+const menuId = __ENV.MENU_ID || 'f59b1e1c-b145-440a-aa6f-6095a0e2d63b';
+const menuPrice = Number(__ENV.MENU_PRICE || 16000);
+
+export const options = {
+    scenarios: {
+        orders: {
+            executor: 'constant-arrival-rate',
+            rate: Number(__ENV.RATE || 500),
+            timeUnit: '1s',
+            duration: __ENV.DURATION || '2m',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export default function () {
+    const menus = http.get(`${host}/api/menus?size=100`, { tags: { name: 'menus' } });
+    check(menus, { 'menus 200': (r) => r.status === 200 });
+
+    const order = http.post(
+        `${host}/api/orders`,
+        JSON.stringify({
+            type: 'TAKEOUT',
+            orderLineItems: [{ menuId: menuId, price: menuPrice, quantity: 1 }],
+        }),
+        { headers: { 'Content-Type': 'application/json' }, tags: { name: 'create order' } },
+    );
+    check(order, { 'order 201': (r) => r.status === 201 });
+}
@@ -0,0 +1,75 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.MenuPriceView;
+import kitchenpos.domain.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MenuCatalogBenchmark {
+    private static final int LINE_ITEMS = 5;
+
+    @Param({"100", "1000", "10000"})
+    private int menus;
+
+    private List<MenuPriceView> views;
+    private MenuCatalog.Snapshot snapshot;
+    private UUID[] orderedMenuIds;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        views = new ArrayList<>(menus);
+        for (int i = 0; i < menus; i++) {
+            views.add(new MenuPriceView(
+                new UUID(random.nextLong(), random.nextLong()),
+                Money.ofMinorUnits(random.nextInt(5_000_000)),
+                random.nextInt(10) != 0
+            ));
+        }
+        snapshot = new MenuCatalog.Snapshot(toMap(views));
+        orderedMenuIds = new UUID[LINE_ITEMS];
+        for (int i = 0; i < LINE_ITEMS; i++) {
+            orderedMenuIds[i] = views.get(random.nextInt(menus)).id();
+        }
+    }
+
+    @Benchmark
+    public long lookup() {
+        long displayed = 0;
+        for (final UUID menuId : orderedMenuIds) {
+            final MenuPriceView menu = snapshot.find(menuId);
+            if (menu.displayed()) {
+                displayed++;
+            }
+        }
+        return displayed;
+    }
+
+    @Benchmark
+    public MenuCatalog.Snapshot rebuild() {
+        return new MenuCatalog.Snapshot(toMap(views));
+    }
+
+    private static Map<UUID, MenuPriceView> toMap(final List<MenuPriceView> views) {
+        return views.stream()
+            .collect(Collectors.toUnmodifiableMap(MenuPriceView::id, Function.identity()));
+    }
+}
@@ -0,0 +1,67 @@
+package kitchenpos.domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MoneyBenchmark {
+    @Param({"3", "20", "200"})
+    private int lineItems;
+
+    private BigDecimal[] decimalPrices;
+    private Money[] moneyPrices;
+    private long[] quantities;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        decimalPrices = new BigDecimal[lineItems];
+        moneyPrices = new Money[lineItems];
+        quantities = new long[lineItems];
+        for (int i = 0; i < lineItems; i++) {
+            final BigDecimal price = BigDecimal.valueOf(random.nextInt(5_000_000), Money.SCALE);
+            decimalPrices[i] = price;
+            moneyPrices[i] = Money.from(price);
+            quantities[i] = 1 + random.nextInt(10);
+        }
+    }
+
+    @Benchmark
+    public int bigDecimal() {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < lineItems; i++) {
+            sum = sum.add(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return sum.compareTo(decimalPrices[0]);
+    }
+
+    @Benchmark
+    public int money() {
+        Money sum = Money.ZERO;
+        for (int i = 0; i < lineItems; i++) {
+            sum = sum.plus(moneyPrices[i].times(quantities[i]));
+        }
+        return sum.compareTo(moneyPrices[0]);
+    }
+
+    @Benchmark
+    public int minorUnits() {
+        long sum = 0L;
+        for (int i = 0; i < lineItems; i++) {
+            sum = Math.addExact(sum, Math.multiplyExact(moneyPrices[i].minorUnits(), quantities[i]));
+        }
+        return Money.ofMinorUnits(sum).compareTo(moneyPrices[0]);
+    }
+}
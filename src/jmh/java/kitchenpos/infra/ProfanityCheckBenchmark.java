@@ -0,0 +1,52 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProfanityCheckBenchmark {
+    @Param({"후라이드치킨", "Spicy chicken burger set", "sh1t chicken"})
+    private String name;
+
+    private PurgomalumClient localClient;
+    private PurgomalumClient remoteClient;
+
+    @Setup
+    public void setUp() {
+        final LocalProfanityDetector detector = new LocalProfanityDetector(
+            new DefaultResourceLoader(),
+            "classpath:profanity/words.txt"
+        );
+        final ProfanityVerdictCache cache = new ProfanityVerdictCache(1_000, 600_000, new SimpleMeterRegistry());
+        localClient = new PurgomalumClient(new RestTemplateBuilder(), detector, cache, ProfanityCheckMode.LOCAL, false);
+        remoteClient = new PurgomalumClient(new RestTemplateBuilder(), detector, cache, ProfanityCheckMode.REMOTE, false);
+    }
+
+    @Benchmark
+    public boolean local() {
+        return localClient.containsProfanity(name);
+    }
+
+    @Benchmark
+    public boolean remote() {
+        return remoteClient.requestContainsProfanity(name);
+    }
+
+    @Benchmark
+    public boolean cachedRemote() {
+        return remoteClient.containsProfanity(name);
+    }
+}
@@ -0,0 +1,11 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Order;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BulkOrderTransitionResult(List<Order> transitioned, List<Failure> failures) {
+    public record Failure(UUID orderId, String reason) {
+    }
+}
@@ -0,0 +1,4 @@
+package kitchenpos.application;
+
+public record CatalogChangedEvent() {
+}
@@ -0,0 +1,188 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kitchenpos.domain.DeliveryOutbox;
+import kitchenpos.domain.DeliveryOutboxRepository;
+import kitchenpos.domain.DeliveryOutboxStatus;
+import kitchenpos.infra.KitchenridersClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@Component
+public class DeliveryOutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(DeliveryOutboxRelay.class);
+    private static final int MAX_BACKOFF_SHIFT = 16;
+    private static final int LAST_ERROR_LENGTH = 255;
+
+    private final DeliveryOutboxRepository deliveryOutboxRepository;
+    private final KitchenridersClient kitchenridersClient;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService dispatchExecutor;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+    private final Counter purged;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long leaseMillis;
+    private final Duration retention;
+
+    public DeliveryOutboxRelay(
+        final DeliveryOutboxRepository deliveryOutboxRepository,
+        final KitchenridersClient kitchenridersClient,
+        final TransactionTemplate transactionTemplate,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.delivery.outbox.batch-size:100}") final int batchSize,
+        @Value("${kitchenpos.delivery.outbox.workers:4}") final int workers,
+        @Value("${kitchenpos.delivery.outbox.max-attempts:10}") final int maxAttempts,
+        @Value("${kitchenpos.delivery.outbox.retry-backoff:1000}") final long retryBackoffMillis,
+        @Value("${kitchenpos.delivery.outbox.lease:30000}") final long leaseMillis,
+        @Value("${kitchenpos.delivery.outbox.retention-days:7}") final long retentionDays,
+        @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads
+    ) {
+        if (batchSize <= 0 || workers <= 0 || maxAttempts <= 0 || retentionDays < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.deliveryOutboxRepository = deliveryOutboxRepository;
+        this.kitchenridersClient = kitchenridersClient;
+        this.transactionTemplate = transactionTemplate;
+        final ThreadFactory threadFactory = virtualThreads
+            ? Thread.ofVirtual().name("delivery-outbox-", 0).factory()
+            : Thread.ofPlatform().name("delivery-outbox-", 0).factory();
+        this.dispatchExecutor = Executors.newFixedThreadPool(workers, threadFactory);
+        this.sent = meterRegistry.counter("kitchenpos.delivery.outbox.sent");
+        this.retried = meterRegistry.counter("kitchenpos.delivery.outbox.retried");
+        this.failed = meterRegistry.counter("kitchenpos.delivery.outbox.failed");
+        this.purged = meterRegistry.counter("kitchenpos.delivery.outbox.purged");
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.leaseMillis = leaseMillis;
+        this.retention = Duration.ofDays(retentionDays);
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.delivery.outbox.interval:500}")
+    public void relay() {
+        List<DeliveryOutbox> claimed;
+        do {
+            claimed = claim();
+            final List<CompletableFuture<Void>> dispatches = claimed.stream()
+                .map(entry -> CompletableFuture.runAsync(() -> dispatch(entry), dispatchExecutor))
+                .toList();
+            dispatches.forEach(CompletableFuture::join);
+        } while (claimed.size() == batchSize);
+    }
+
+    @Scheduled(
+        initialDelayString = "${kitchenpos.delivery.outbox.purge-interval:3600000}",
+        fixedDelayString = "${kitchenpos.delivery.outbox.purge-interval:3600000}"
+    )
+    public void purgeSent() {
+        final LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        try {
+            List<Long> seqs;
+            do {
+                seqs = deliveryOutboxRepository.findAllSeqsByStatusAndSentAtBefore(
+                    DeliveryOutboxStatus.SENT,
+                    cutoff,
+                    PageRequest.ofSize(batchSize)
+                );
+                if (!seqs.isEmpty()) {
+                    deliveryOutboxRepository.deleteAllByIdInBatch(seqs);
+                    purged.increment(seqs.size());
+                }
+            } while (seqs.size() == batchSize);
+        } catch (final RuntimeException e) {
+            log.warn("Failed to purge delivery requests sent before {}", cutoff, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
+    }
+
+    private List<DeliveryOutbox> claim() {
+        return transactionTemplate.execute(status -> {
+            final LocalDateTime now = LocalDateTime.now();
+            final List<DeliveryOutbox> entries = deliveryOutboxRepository
+                .findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                    DeliveryOutboxStatus.PENDING,
+                    now,
+                    PageRequest.ofSize(batchSize)
+                );
+            for (final DeliveryOutbox entry : entries) {
+                entry.setNextAttemptAt(now.plus(leaseMillis, ChronoUnit.MILLIS));
+            }
+            return entries;
+        });
+    }
+
+    private void dispatch(final DeliveryOutbox entry) {
+        try {
+            kitchenridersClient.requestDelivery(
+                entry.getIdempotencyKey(),
+                entry.getOrderId(),
+                entry.getAmount().toBigDecimal(),
+                entry.getDeliveryAddress()
+            );
+        } catch (final RuntimeException e) {
+            log.warn("Failed to request delivery of order {}", entry.getOrderId(), e);
+            transactionTemplate.executeWithoutResult(status -> markFailedAttempt(entry.getSeq(), e));
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> markSent(entry.getSeq()));
+    }
+
+    private void markSent(final Long seq) {
+        final DeliveryOutbox entry = deliveryOutboxRepository.findById(seq)
+            .orElseThrow();
+        entry.setStatus(DeliveryOutboxStatus.SENT);
+        entry.setAttempts(entry.getAttempts() + 1);
+        entry.setSentAt(LocalDateTime.now());
+        entry.setLastError(null);
+        sent.increment();
+    }
+
+    private void markFailedAttempt(final Long seq, final RuntimeException cause) {
+        final DeliveryOutbox entry = deliveryOutboxRepository.findById(seq)
+            .orElseThrow();
+        final int attempts = entry.getAttempts() + 1;
+        entry.setAttempts(attempts);
+        entry.setLastError(truncate(String.valueOf(cause.getMessage())));
+        if (attempts >= maxAttempts) {
+            log.error("Giving up delivery request of order {} after {} attempts", entry.getOrderId(), attempts);
+            entry.setStatus(DeliveryOutboxStatus.FAILED);
+            failed.increment();
+            return;
+        }
+        final long backoff = retryBackoffMillis << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+        entry.setNextAttemptAt(LocalDateTime.now().plus(backoff, ChronoUnit.MILLIS));
+        retried.increment();
+    }
+
+    private static String truncate(final String message) {
+        if (Objects.isNull(message) || message.length() <= LAST_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, LAST_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,107 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+@Component
+public class DisplayedMenus {
+    private final MenuRepository menuRepository;
+    private final MenuCatalog menuCatalog;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReentrantLock renderLock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Document document;
+
+    public DisplayedMenus(
+        final MenuRepository menuRepository,
+        final MenuCatalog menuCatalog,
+        final ObjectMapper objectMapper,
+        final PlatformTransactionManager transactionManager
+    ) {
+        this.menuRepository = menuRepository;
+        this.menuCatalog = menuCatalog;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Document document() {
+        final long catalogVersion = menuCatalog.version();
+        final Document current = document;
+        if (isCurrent(current, catalogVersion)) {
+            return current;
+        }
+        renderLock.lock();
+        try {
+            final Document latest = document;
+            if (isCurrent(latest, catalogVersion)) {
+                return latest;
+            }
+            final long renderedGeneration = generation.get();
+            final Document rendered = readOnlyTransaction.execute(status -> render(catalogVersion));
+            if (generation.get() == renderedGeneration) {
+                document = rendered;
+            }
+            return rendered;
+        } finally {
+            renderLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(final CatalogChangedEvent event) {
+        generation.incrementAndGet();
+        document = null;
+    }
+
+    private static boolean isCurrent(final Document document, final long catalogVersion) {
+        return Objects.nonNull(document) && document.catalogVersion() == catalogVersion;
+    }
+
+    private Document render(final long catalogVersion) {
+        final List<Menu> menus = menuRepository.findAllByDisplayedTrue();
+        try {
+            final byte[] json = objectMapper.writeValueAsBytes(menus);
+            return new Document(
+                catalogVersion,
+                "\"" + DigestUtils.md5DigestAsHex(json) + "\"",
+                json,
+                gzip(json)
+            );
+        } catch (final JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] gzip(final byte[] bytes) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(bytes);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.toByteArray();
+    }
+
+    public record Document(long catalogVersion, String etag, byte[] json, byte[] gzippedJson) {
+    }
+}
@@ -0,0 +1,19 @@
+package kitchenpos.application;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+public final class KeysetPage {
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 500;
+
+    private KeysetPage() {
+    }
+
+    public static Pageable of(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException();
+        }
+        return PageRequest.of(0, Math.min(size, MAX_SIZE));
+    }
+}
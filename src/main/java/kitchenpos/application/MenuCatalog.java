@@ -0,0 +1,88 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.MenuCatalogVersionRepository;
+import kitchenpos.domain.MenuPriceView;
+import kitchenpos.domain.MenuRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+public class MenuCatalog {
+    private final MenuRepository menuRepository;
+    private final MenuCatalogVersionRepository menuCatalogVersionRepository;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile Snapshot snapshot = new Snapshot(Map.of());
+    private volatile long version = -1L;
+
+    public MenuCatalog(
+        final MenuRepository menuRepository,
+        final MenuCatalogVersionRepository menuCatalogVersionRepository
+    ) {
+        this.menuRepository = menuRepository;
+        this.menuCatalogVersionRepository = menuCatalogVersionRepository;
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            final long currentVersion = menuCatalogVersionRepository.findVersion();
+            final Map<UUID, MenuPriceView> menus = menuRepository.findAllMenuPriceViews()
+                .stream()
+                .collect(Collectors.toUnmodifiableMap(MenuPriceView::id, Function.identity()));
+            this.snapshot = new Snapshot(menus);
+            this.version = currentVersion;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.menu.catalog.refresh-interval:5000}")
+    public void refreshIfStale() {
+        if (menuCatalogVersionRepository.findVersion() != version) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void incrementVersion(final CatalogChangedEvent event) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            menuCatalogVersionRepository.flush();
+        }
+        menuCatalogVersionRepository.increment();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(final CatalogChangedEvent event) {
+        rebuild();
+    }
+
+    public record Snapshot(Map<UUID, MenuPriceView> menus) {
+        public MenuPriceView find(final UUID menuId) {
+            if (Objects.isNull(menuId)) {
+                return null;
+            }
+            return menus.get(menuId);
+        }
+    }
+}
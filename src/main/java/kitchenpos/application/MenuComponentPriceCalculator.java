@@ -0,0 +1,48 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.MenuProductQuantity;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Product;
+import kitchenpos.domain.ProductRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class MenuComponentPriceCalculator {
+    private final MenuRepository menuRepository;
+    private final ProductRepository productRepository;
+
+    public MenuComponentPriceCalculator(final MenuRepository menuRepository, final ProductRepository productRepository) {
+        this.menuRepository = menuRepository;
+        this.productRepository = productRepository;
+    }
+
+    public Map<UUID, Money> calculate(final Collection<UUID> menuIds) {
+        if (menuIds.isEmpty()) {
+            return Map.of();
+        }
+        final List<MenuProductQuantity> rows = menuRepository.findAllMenuProductQuantitiesByMenuIdIn(menuIds);
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+        final Set<UUID> productIds = rows.stream()
+            .map(MenuProductQuantity::productId)
+            .collect(Collectors.toSet());
+        final Map<UUID, Money> prices = productRepository.findAllForShareByIdIn(productIds)
+            .stream()
+            .collect(Collectors.toMap(Product::getId, Product::getPrice));
+        final Map<UUID, Money> sums = new HashMap<>();
+        for (final MenuProductQuantity row : rows) {
+            sums.merge(row.menuId(), prices.get(row.productId()).times(row.quantity()), Money::plus);
+        }
+        return sums;
+    }
+}
@@ -0,0 +1,104 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+@Component
+public class MenuComponentPriceSumRepairJob {
+    private static final Logger log = LoggerFactory.getLogger(MenuComponentPriceSumRepairJob.class);
+
+    private final MenuRepository menuRepository;
+    private final MenuComponentPriceCalculator menuComponentPriceCalculator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter repaired;
+    private final int batchSize;
+
+    public MenuComponentPriceSumRepairJob(
+        final MenuRepository menuRepository,
+        final MenuComponentPriceCalculator menuComponentPriceCalculator,
+        final TransactionTemplate transactionTemplate,
+        final ApplicationEventPublisher eventPublisher,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.menu.component-price-sum-repair.batch-size:100}") final int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.menuRepository = menuRepository;
+        this.menuComponentPriceCalculator = menuComponentPriceCalculator;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.repaired = meterRegistry.counter("kitchenpos.menu.component-price-sum.repaired");
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+        initialDelayString = "${kitchenpos.menu.component-price-sum-repair.interval:3600000}",
+        fixedDelayString = "${kitchenpos.menu.component-price-sum-repair.interval:3600000}"
+    )
+    public void repair() {
+        final Pageable page = PageRequest.ofSize(batchSize);
+        UUID cursor = null;
+        while (true) {
+            final List<UUID> menuIds = Objects.isNull(cursor)
+                ? menuRepository.findAllIds(page)
+                : menuRepository.findAllIdsByIdGreaterThan(cursor, page);
+            if (menuIds.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> repairBatch(menuIds));
+            } catch (final DataAccessException e) {
+                log.warn("Skipped component price sum repair of {} menus after {}", menuIds.size(), cursor, e);
+            }
+            if (menuIds.size() < batchSize) {
+                return;
+            }
+            cursor = menuIds.get(menuIds.size() - 1);
+        }
+    }
+
+    private void repairBatch(final List<UUID> menuIds) {
+        final Map<UUID, Money> sums = menuComponentPriceCalculator.calculate(menuIds);
+        boolean hidden = false;
+        for (final Menu menu : menuRepository.findAllForUpdateByIdIn(menuIds)) {
+            final Money actual = sums.getOrDefault(menu.getId(), Money.ZERO);
+            if (!actual.equals(menu.getComponentPriceSum())) {
+                log.warn(
+                    "Repairing component price sum of menu {} from {} to {}",
+                    menu.getId(),
+                    menu.getComponentPriceSum(),
+                    actual
+                );
+                menu.setComponentPriceSum(actual);
+                repaired.increment();
+            }
+            if (menu.isDisplayed() && menu.getPrice().isGreaterThan(menu.getComponentPriceSum())) {
+                menu.setDisplayed(false);
+                hidden = true;
+            }
+        }
+        if (hidden) {
+            eventPublisher.publishEvent(new CatalogChangedEvent());
+        }
+    }
+}
@@ -2,6 +2,7 @@ package kitchenpos.application;
 
 import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuGroupRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,7 +31,11 @@ public class MenuGroupService {
     }
 
     @Transactional(readOnly = true)
-    public List<MenuGroup> findAll() {
-        return menuGroupRepository.findAll();
+    public List<MenuGroup> findAll(final UUID cursor, final int size) {
+        final Pageable page = KeysetPage.of(size);
+        if (Objects.isNull(cursor)) {
+            return menuGroupRepository.findAllByOrderByIdAsc(page);
+        }
+        return menuGroupRepository.findAllByIdGreaterThanOrderByIdAsc(cursor, page);
     }
 }
@@ -0,0 +1,6 @@
+package kitchenpos.application;
+
+public enum MenuRevalidationMode {
+    SYNC,
+    ASYNC
+}
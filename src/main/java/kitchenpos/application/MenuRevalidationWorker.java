@@ -0,0 +1,174 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.MenuRevalidation;
+import kitchenpos.domain.MenuRevalidationRepository;
+import kitchenpos.domain.Money;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class MenuRevalidationWorker {
+    private static final Logger log = LoggerFactory.getLogger(MenuRevalidationWorker.class);
+    private static final int MAX_BACKOFF_SHIFT = 16;
+
+    private final MenuRepository menuRepository;
+    private final MenuRevalidationRepository menuRevalidationRepository;
+    private final MenuComponentPriceCalculator menuComponentPriceCalculator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long leaseMillis;
+    private volatile MenuRevalidationStatus lastStatus = new MenuRevalidationStatus(0, 0);
+
+    public MenuRevalidationWorker(
+        final MenuRepository menuRepository,
+        final MenuRevalidationRepository menuRevalidationRepository,
+        final MenuComponentPriceCalculator menuComponentPriceCalculator,
+        final TransactionTemplate transactionTemplate,
+        final ApplicationEventPublisher eventPublisher,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.product.menu-revalidation.batch-size:100}") final int batchSize,
+        @Value("${kitchenpos.product.menu-revalidation.max-attempts:5}") final int maxAttempts,
+        @Value("${kitchenpos.product.menu-revalidation.retry-backoff:1000}") final long retryBackoffMillis,
+        @Value("${kitchenpos.product.menu-revalidation.lease:30000}") final long leaseMillis
+    ) {
+        if (batchSize <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.menuRepository = menuRepository;
+        this.menuRevalidationRepository = menuRevalidationRepository;
+        this.menuComponentPriceCalculator = menuComponentPriceCalculator;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.leaseMillis = leaseMillis;
+        Gauge.builder("kitchenpos.menu.revalidation.pending", this, worker -> worker.lastStatus.pendingProducts())
+            .register(meterRegistry);
+        Gauge.builder("kitchenpos.menu.revalidation.lag", this, worker -> worker.lastStatus.oldestPendingMillis())
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.product.menu-revalidation.interval:1000}")
+    public void revalidate() {
+        List<MenuRevalidation> claimed;
+        do {
+            claimed = claim();
+            if (!claimed.isEmpty()) {
+                process(claimed);
+            }
+        } while (claimed.size() == batchSize);
+        lastStatus = status();
+    }
+
+    public MenuRevalidationStatus status() {
+        final LocalDateTime oldest = menuRevalidationRepository.findOldestEnqueuedAt();
+        final long oldestPendingMillis = Objects.isNull(oldest)
+            ? 0
+            : Math.max(Duration.between(oldest, LocalDateTime.now()).toMillis(), 0);
+        return new MenuRevalidationStatus(
+            (int) menuRevalidationRepository.countPendingProducts(),
+            oldestPendingMillis
+        );
+    }
+
+    private List<MenuRevalidation> claim() {
+        return transactionTemplate.execute(status -> {
+            final LocalDateTime now = LocalDateTime.now();
+            final List<MenuRevalidation> entries = menuRevalidationRepository
+                .findAllByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(now, PageRequest.ofSize(batchSize));
+            for (final MenuRevalidation entry : entries) {
+                entry.setNextAttemptAt(now.plus(leaseMillis, ChronoUnit.MILLIS));
+            }
+            return entries;
+        });
+    }
+
+    private void process(final List<MenuRevalidation> entries) {
+        final Set<UUID> productIds = entries.stream()
+            .map(MenuRevalidation::getProductId)
+            .collect(Collectors.toSet());
+        try {
+            revalidate(menuRepository.findAllIdsByProductIdIn(productIds));
+        } catch (final RuntimeException e) {
+            log.warn("Failed to revalidate menus of {} products", productIds.size(), e);
+            transactionTemplate.executeWithoutResult(status -> markFailedAttempt(entries));
+            return;
+        }
+        transactionTemplate.executeWithoutResult(status -> menuRevalidationRepository.deleteAllByIdInBatch(
+            entries.stream()
+                .map(MenuRevalidation::getSeq)
+                .toList()
+        ));
+    }
+
+    private void revalidate(final List<UUID> menuIds) {
+        for (int from = 0; from < menuIds.size(); from += batchSize) {
+            final List<UUID> batch = new ArrayList<>(menuIds.subList(from, Math.min(from + batchSize, menuIds.size())));
+            transactionTemplate.executeWithoutResult(status -> revalidateBatch(batch));
+        }
+    }
+
+    private void revalidateBatch(final List<UUID> menuIds) {
+        final Map<UUID, Money> sums = menuComponentPriceCalculator.calculate(menuIds);
+        boolean changed = false;
+        for (final Menu menu : menuRepository.findAllForUpdateByIdIn(menuIds)) {
+            final Money sum = sums.getOrDefault(menu.getId(), Money.ZERO);
+            if (!sum.equals(menu.getComponentPriceSum())) {
+                menu.setComponentPriceSum(sum);
+                changed = true;
+            }
+            if (menu.isDisplayed() && menu.getPrice().isGreaterThan(sum)) {
+                menu.setDisplayed(false);
+                changed = true;
+            }
+        }
+        if (changed) {
+            eventPublisher.publishEvent(new CatalogChangedEvent());
+        }
+    }
+
+    private void markFailedAttempt(final List<MenuRevalidation> claimed) {
+        final LocalDateTime now = LocalDateTime.now();
+        for (final MenuRevalidation entry : menuRevalidationRepository.findAllById(
+            claimed.stream()
+                .map(MenuRevalidation::getSeq)
+                .toList()
+        )) {
+            final int attempts = entry.getAttempts() + 1;
+            if (attempts >= maxAttempts) {
+                log.error("Giving up menu revalidation of product {} after {} attempts", entry.getProductId(), attempts);
+                menuRevalidationRepository.delete(entry);
+                continue;
+            }
+            entry.setAttempts(attempts);
+            final long backoff = retryBackoffMillis << Math.min(attempts - 1, MAX_BACKOFF_SHIFT);
+            entry.setNextAttemptAt(now.plus(backoff, ChronoUnit.MILLIS));
+        }
+    }
+}
@@ -5,13 +5,15 @@ import kitchenpos.domain.MenuGroup;
 import kitchenpos.domain.MenuGroupRepository;
 import kitchenpos.domain.MenuProduct;
 import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Money;
 import kitchenpos.domain.Product;
 import kitchenpos.domain.ProductRepository;
 import kitchenpos.infra.PurgomalumClient;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -24,23 +26,26 @@ public class MenuService {
     private final MenuGroupRepository menuGroupRepository;
     private final ProductRepository productRepository;
     private final PurgomalumClient purgomalumClient;
+    private final ApplicationEventPublisher eventPublisher;
 
     public MenuService(
         final MenuRepository menuRepository,
         final MenuGroupRepository menuGroupRepository,
         final ProductRepository productRepository,
-        final PurgomalumClient purgomalumClient
+        final PurgomalumClient purgomalumClient,
+        final ApplicationEventPublisher eventPublisher
     ) {
         this.menuRepository = menuRepository;
         this.menuGroupRepository = menuGroupRepository;
         this.productRepository = productRepository;
         this.purgomalumClient = purgomalumClient;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Menu create(final Menu request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final MenuGroup menuGroup = menuGroupRepository.findById(request.getMenuGroupId())
@@ -49,7 +54,7 @@ public class MenuService {
         if (Objects.isNull(menuProductRequests) || menuProductRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Product> products = productRepository.findAllByIdIn(
+        final List<Product> products = productRepository.findAllForShareByIdIn(
             menuProductRequests.stream()
                 .map(MenuProduct::getProductId)
                 .toList()
@@ -58,7 +63,7 @@ public class MenuService {
             throw new IllegalArgumentException();
         }
         final List<MenuProduct> menuProducts = new ArrayList<>();
-        BigDecimal sum = BigDecimal.ZERO;
+        Money sum = Money.ZERO;
         for (final MenuProduct menuProductRequest : menuProductRequests) {
             final long quantity = menuProductRequest.getQuantity();
             if (quantity < 0) {
@@ -66,16 +71,16 @@ public class MenuService {
             }
             final Product product = productRepository.findById(menuProductRequest.getProductId())
                 .orElseThrow(NoSuchElementException::new);
-            sum = sum.add(
+            sum = sum.plus(
                 product.getPrice()
-                    .multiply(BigDecimal.valueOf(quantity))
+                    .times(quantity)
             );
             final MenuProduct menuProduct = new MenuProduct();
             menuProduct.setProduct(product);
             menuProduct.setQuantity(quantity);
             menuProducts.add(menuProduct);
         }
-        if (price.compareTo(sum) > 0) {
+        if (price.isGreaterThan(sum)) {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
@@ -86,51 +91,40 @@ public class MenuService {
         menu.setId(UUID.randomUUID());
         menu.setName(name);
         menu.setPrice(price);
+        menu.setComponentPriceSum(sum);
         menu.setMenuGroup(menuGroup);
         menu.setDisplayed(request.isDisplayed());
         menu.setMenuProducts(menuProducts);
-        return menuRepository.save(menu);
+        final Menu savedMenu = menuRepository.save(menu);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return savedMenu;
     }
 
     @Transactional
     public Menu changePrice(final UUID menuId, final Menu request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
-        BigDecimal sum = BigDecimal.ZERO;
-        final Menu menu = menuRepository.findById(menuId)
+        final Menu menu = menuRepository.findForUpdateById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
-                menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-            );
-        }
-        if (price.compareTo(sum) > 0) {
+        if (price.isGreaterThan(menu.getComponentPriceSum())) {
             throw new IllegalArgumentException();
         }
         menu.setPrice(price);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         return menu;
     }
 
     @Transactional
     public Menu display(final UUID menuId) {
-        final Menu menu = menuRepository.findById(menuId)
+        final Menu menu = menuRepository.findForUpdateById(menuId)
             .orElseThrow(NoSuchElementException::new);
-        BigDecimal sum = BigDecimal.ZERO;
-        for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-            sum = sum.add(
-                menuProduct.getProduct()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-            );
-        }
-        if (menu.getPrice().compareTo(sum) > 0) {
+        if (menu.getPrice().isGreaterThan(menu.getComponentPriceSum())) {
             throw new IllegalStateException();
         }
         menu.setDisplayed(true);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         return menu;
     }
 
@@ -139,11 +133,16 @@ public class MenuService {
         final Menu menu = menuRepository.findById(menuId)
             .orElseThrow(NoSuchElementException::new);
         menu.setDisplayed(false);
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         return menu;
     }
 
     @Transactional(readOnly = true)
-    public List<Menu> findAll() {
-        return menuRepository.findAll();
+    public List<Menu> findAll(final UUID cursor, final int size) {
+        final Pageable page = KeysetPage.of(size);
+        if (Objects.isNull(cursor)) {
+            return menuRepository.findAllByOrderByIdAsc(page);
+        }
+        return menuRepository.findAllByIdGreaterThanOrderByIdAsc(cursor, page);
     }
 }
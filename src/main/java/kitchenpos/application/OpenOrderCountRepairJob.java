@@ -0,0 +1,100 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.OpenOrderCount;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Component
+public class OpenOrderCountRepairJob {
+    private static final Logger log = LoggerFactory.getLogger(OpenOrderCountRepairJob.class);
+
+    private final OrderTableRepository orderTableRepository;
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter repaired;
+    private final int batchSize;
+
+    public OpenOrderCountRepairJob(
+        final OrderTableRepository orderTableRepository,
+        final OrderRepository orderRepository,
+        final TransactionTemplate transactionTemplate,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.order-table.open-order-count-repair.batch-size:500}") final int batchSize
+    ) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.orderTableRepository = orderTableRepository;
+        this.orderRepository = orderRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.repaired = meterRegistry.counter("kitchenpos.order-table.open-order-count.repaired");
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(
+        initialDelayString = "${kitchenpos.order-table.open-order-count-repair.interval:3600000}",
+        fixedDelayString = "${kitchenpos.order-table.open-order-count-repair.interval:3600000}"
+    )
+    public void repair() {
+        final Pageable page = PageRequest.ofSize(batchSize);
+        UUID cursor = null;
+        while (true) {
+            final List<UUID> orderTableIds = Objects.isNull(cursor)
+                ? orderTableRepository.findAllIds(page)
+                : orderTableRepository.findAllIdsByIdGreaterThan(cursor, page);
+            if (orderTableIds.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> repairBatch(orderTableIds));
+            } catch (final OptimisticLockingFailureException e) {
+                log.info(
+                    "Skipped open order count repair of {} tables after {} due to a concurrent update",
+                    orderTableIds.size(),
+                    cursor
+                );
+            }
+            if (orderTableIds.size() < batchSize) {
+                return;
+            }
+            cursor = orderTableIds.get(orderTableIds.size() - 1);
+        }
+    }
+
+    private void repairBatch(final List<UUID> orderTableIds) {
+        final Map<UUID, Long> counts = orderRepository.countOpenOrdersByOrderTableIdIn(orderTableIds)
+            .stream()
+            .collect(Collectors.toMap(OpenOrderCount::orderTableId, OpenOrderCount::count));
+        for (final OrderTable orderTable : orderTableRepository.findAllById(orderTableIds)) {
+            final int actual = counts.getOrDefault(orderTable.getId(), 0L).intValue();
+            if (orderTable.getOpenOrderCount() != actual) {
+                log.warn(
+                    "Repairing open order count of table {} from {} to {}",
+                    orderTable.getId(),
+                    orderTable.getOpenOrderCount(),
+                    actual
+                );
+                orderTable.setOpenOrderCount(actual);
+                repaired.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package kitchenpos.application;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class OrderArchiver {
+    private static final Logger log = LoggerFactory.getLogger(OrderArchiver.class);
+    private static final String SELECT_ARCHIVABLE_IDS = "select id from orders"
+        + " where status = 'COMPLETED' and order_date_time < :cutoff"
+        + " order by order_date_time, id limit :limit"
+        + " for update skip locked";
+    private static final String SELECT_OLDEST_ARCHIVABLE = "select min(order_date_time) from orders"
+        + " where status = 'COMPLETED' and order_date_time < :cutoff";
+    private static final String ARCHIVE_ORDERS = "insert into orders_archive"
+        + " (id, delivery_address, order_date_time, status, type, order_table_id, archived_at)"
+        + " select id, delivery_address, order_date_time, status, type, order_table_id, :archivedAt"
+        + " from orders where id in (:ids)";
+    private static final String ARCHIVE_ORDER_LINE_ITEMS = "insert into order_line_item_archive"
+        + " (seq, quantity, menu_id, order_id)"
+        + " select seq, quantity, menu_id, order_id from order_line_item where order_id in (:ids)";
+    private static final String DELETE_ORDER_LINE_ITEMS = "delete from order_line_item where order_id in (:ids)";
+    private static final String DELETE_ORDERS = "delete from orders where id in (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer batchTimer;
+    private final Counter archived;
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Duration minimumAge;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMillis;
+
+    public OrderArchiver(
+        final NamedParameterJdbcTemplate jdbcTemplate,
+        final TransactionTemplate transactionTemplate,
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.order.archive.minimum-age-days:30}") final long minimumAgeDays,
+        @Value("${kitchenpos.order.archive.batch-size:500}") final int batchSize,
+        @Value("${kitchenpos.order.archive.max-batches:100}") final int maxBatches,
+        @Value("${kitchenpos.order.archive.pause:200}") final long pauseMillis
+    ) {
+        if (minimumAgeDays < 0 || batchSize <= 0 || maxBatches <= 0 || pauseMillis < 0) {
+            throw new IllegalArgumentException();
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchTimer = Timer.builder("kitchenpos.order.archive.batch")
+            .register(meterRegistry);
+        this.archived = meterRegistry.counter("kitchenpos.order.archive.archived");
+        Gauge.builder("kitchenpos.order.archive.lag", lagMillis, AtomicLong::get)
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        this.minimumAge = Duration.ofDays(minimumAgeDays);
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(
+        initialDelayString = "${kitchenpos.order.archive.interval:60000}",
+        fixedDelayString = "${kitchenpos.order.archive.interval:60000}"
+    )
+    public void archive() {
+        final LocalDateTime cutoff = LocalDateTime.now().minus(minimumAge);
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                final Timer.Sample sample = Timer.start();
+                final int count = archiveBatch(cutoff);
+                sample.stop(batchTimer);
+                archived.increment(count);
+                if (count < batchSize) {
+                    break;
+                }
+                Thread.sleep(pauseMillis);
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (final RuntimeException e) {
+            log.warn("Failed to archive completed orders before {}", cutoff, e);
+        } finally {
+            updateLag(cutoff);
+        }
+    }
+
+    private int archiveBatch(final LocalDateTime cutoff) {
+        return Objects.requireNonNull(transactionTemplate.execute(status -> {
+            final List<byte[]> ids = jdbcTemplate.queryForList(
+                SELECT_ARCHIVABLE_IDS,
+                new MapSqlParameterSource()
+                    .addValue("cutoff", Timestamp.valueOf(cutoff))
+                    .addValue("limit", batchSize),
+                byte[].class
+            );
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            final MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(LocalDateTime.now()));
+            jdbcTemplate.update(ARCHIVE_ORDERS, parameters);
+            jdbcTemplate.update(ARCHIVE_ORDER_LINE_ITEMS, parameters);
+            jdbcTemplate.update(DELETE_ORDER_LINE_ITEMS, parameters);
+            jdbcTemplate.update(DELETE_ORDERS, parameters);
+            return ids.size();
+        }));
+    }
+
+    private void updateLag(final LocalDateTime cutoff) {
+        final Timestamp oldest = jdbcTemplate.queryForObject(
+            SELECT_OLDEST_ARCHIVABLE,
+            new MapSqlParameterSource("cutoff", Timestamp.valueOf(cutoff)),
+            Timestamp.class
+        );
+        if (Objects.isNull(oldest)) {
+            lagMillis.set(0);
+            return;
+        }
+        lagMillis.set(Duration.between(oldest.toLocalDateTime(), cutoff).toMillis());
+    }
+}
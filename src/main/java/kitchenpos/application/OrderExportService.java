@@ -0,0 +1,186 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import kitchenpos.domain.ArchivedOrderRepository;
+import kitchenpos.domain.OrderExportRow;
+import kitchenpos.domain.OrderRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+@Service
+public class OrderExportService {
+    private static final String CSV_HEADER =
+        "order_id,type,status,order_date_time,order_table_id,delivery_address,menu_id,menu_name,menu_price,quantity";
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final Comparator<OrderExportRow> EXPORT_ORDER = Comparator.comparing(OrderExportRow::orderDateTime)
+        .thenComparing(OrderExportRow::orderId);
+
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int clearInterval;
+
+    public OrderExportService(
+        final OrderRepository orderRepository,
+        final ArchivedOrderRepository archivedOrderRepository,
+        final EntityManager entityManager,
+        final ObjectMapper objectMapper,
+        @Value("${kitchenpos.order.export.clear-interval:1000}") final int clearInterval
+    ) {
+        if (clearInterval <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.clearInterval = clearInterval;
+    }
+
+    @Transactional(readOnly = true)
+    public long export(
+        final LocalDateTime from,
+        final LocalDateTime to,
+        final OrderExportFormat format,
+        final OutputStream output
+    ) throws IOException {
+        try (Stream<OrderExportRow> archivedRows = archivedOrderRepository.streamExportRows(from, to);
+             Stream<OrderExportRow> rows = orderRepository.streamExportRows(from, to)) {
+            final Iterator<OrderExportRow> merged = merge(archivedRows.iterator(), rows.iterator());
+            if (format == OrderExportFormat.CSV) {
+                return writeCsv(merged, output);
+            }
+            return writeNdjson(merged, output);
+        }
+    }
+
+    private static Iterator<OrderExportRow> merge(
+        final Iterator<OrderExportRow> first,
+        final Iterator<OrderExportRow> second
+    ) {
+        return new Iterator<>() {
+            private OrderExportRow nextFirst = advance(first);
+            private OrderExportRow nextSecond = advance(second);
+
+            @Override
+            public boolean hasNext() {
+                return Objects.nonNull(nextFirst) || Objects.nonNull(nextSecond);
+            }
+
+            @Override
+            public OrderExportRow next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                final OrderExportRow row;
+                if (Objects.isNull(nextSecond)
+                    || (Objects.nonNull(nextFirst) && EXPORT_ORDER.compare(nextFirst, nextSecond) <= 0)) {
+                    row = nextFirst;
+                    nextFirst = advance(first);
+                } else {
+                    row = nextSecond;
+                    nextSecond = advance(second);
+                }
+                return row;
+            }
+        };
+    }
+
+    private static OrderExportRow advance(final Iterator<OrderExportRow> rows) {
+        return rows.hasNext() ? rows.next() : null;
+    }
+
+    private long writeNdjson(final Iterator<OrderExportRow> rows, final OutputStream output) throws IOException {
+        long count = 0;
+        try (SequenceWriter writer = objectMapper.writer()
+            .withRootValueSeparator("\n")
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .writeValues(output)) {
+            while (rows.hasNext()) {
+                writer.write(rows.next());
+                clearPeriodically(++count);
+            }
+        }
+        if (count > 0) {
+            output.write('\n');
+        }
+        output.flush();
+        return count;
+    }
+
+    private long writeCsv(final Iterator<OrderExportRow> rows, final OutputStream output) throws IOException {
+        long count = 0;
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        while (rows.hasNext()) {
+            final OrderExportRow row = rows.next();
+            writer.write(csv(row.orderId()));
+            writer.write(',');
+            writer.write(csv(row.type()));
+            writer.write(',');
+            writer.write(csv(row.status()));
+            writer.write(',');
+            writer.write(csv(row.orderDateTime()));
+            writer.write(',');
+            writer.write(csv(row.orderTableId()));
+            writer.write(',');
+            writer.write(csvText(row.deliveryAddress()));
+            writer.write(',');
+            writer.write(csv(row.menuId()));
+            writer.write(',');
+            writer.write(csvText(row.menuName()));
+            writer.write(',');
+            writer.write(csv(row.menuPrice().toBigDecimal().toPlainString()));
+            writer.write(',');
+            writer.write(Long.toString(row.quantity()));
+            writer.write('\n');
+            clearPeriodically(++count);
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void clearPeriodically(final long count) {
+        if (count % clearInterval == 0) {
+            entityManager.clear();
+        }
+    }
+
+    private static String csvText(final String value) {
+        if (Objects.isNull(value) || value.isEmpty() || FORMULA_PREFIXES.indexOf(value.charAt(0)) < 0) {
+            return csv(value);
+        }
+        return csv("'" + value);
+    }
+
+    private static String csv(final Object value) {
+        if (Objects.isNull(value)) {
+            return "";
+        }
+        final String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,36 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.ArchivedOrder;
+import kitchenpos.domain.ArchivedOrderRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.UUID;
+
+@Service
+public class OrderHistoryService {
+    private final ArchivedOrderRepository archivedOrderRepository;
+
+    public OrderHistoryService(final ArchivedOrderRepository archivedOrderRepository) {
+        this.archivedOrderRepository = archivedOrderRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public ArchivedOrder findById(final UUID orderId) {
+        return archivedOrderRepository.findById(orderId)
+            .orElseThrow(NoSuchElementException::new);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ArchivedOrder> findAll(final UUID cursor, final int size) {
+        final Pageable page = KeysetPage.of(size);
+        if (Objects.isNull(cursor)) {
+            return archivedOrderRepository.findAllByOrderByIdAsc(page);
+        }
+        return archivedOrderRepository.findAllByIdGreaterThanOrderByIdAsc(cursor, page);
+    }
+}
@@ -1,43 +1,77 @@
 package kitchenpos.application;
 
-import kitchenpos.domain.Menu;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import kitchenpos.domain.DeliveryOutbox;
+import kitchenpos.domain.DeliveryOutboxRepository;
+import kitchenpos.domain.DeliveryOutboxStatus;
+import kitchenpos.domain.MenuPriceView;
 import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Money;
 import kitchenpos.domain.Order;
 import kitchenpos.domain.OrderLineItem;
 import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderSearchCursor;
 import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderSummary;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
+import kitchenpos.domain.OrderTransition;
 import kitchenpos.domain.OrderType;
-import kitchenpos.infra.KitchenridersClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 public class OrderService {
+    private static final Logger log = LoggerFactory.getLogger(OrderService.class);
+
     private final OrderRepository orderRepository;
     private final MenuRepository menuRepository;
+    private final MenuCatalog menuCatalog;
     private final OrderTableRepository orderTableRepository;
-    private final KitchenridersClient kitchenridersClient;
+    private final DeliveryOutboxRepository deliveryOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter openOrderCountDrift;
 
     public OrderService(
         final OrderRepository orderRepository,
         final MenuRepository menuRepository,
+        final MenuCatalog menuCatalog,
         final OrderTableRepository orderTableRepository,
-        final KitchenridersClient kitchenridersClient
+        final DeliveryOutboxRepository deliveryOutboxRepository,
+        final ApplicationEventPublisher eventPublisher,
+        final TransactionTemplate transactionTemplate,
+        final MeterRegistry meterRegistry
     ) {
         this.orderRepository = orderRepository;
         this.menuRepository = menuRepository;
+        this.menuCatalog = menuCatalog;
         this.orderTableRepository = orderTableRepository;
-        this.kitchenridersClient = kitchenridersClient;
+        this.deliveryOutboxRepository = deliveryOutboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.openOrderCountDrift = meterRegistry.counter("kitchenpos.order-table.open-order-count.drift");
     }
 
     @Transactional
@@ -50,12 +84,13 @@ public class OrderService {
         if (Objects.isNull(orderLineItemRequests) || orderLineItemRequests.isEmpty()) {
             throw new IllegalArgumentException();
         }
-        final List<Menu> menus = menuRepository.findAllByIdIn(
-            orderLineItemRequests.stream()
-                .map(OrderLineItem::getMenuId)
-                .toList()
-        );
-        if (menus.size() != orderLineItemRequests.size()) {
+        final MenuCatalog.Snapshot catalog = menuCatalog.snapshot();
+        final long distinctMenuCount = orderLineItemRequests.stream()
+            .map(OrderLineItem::getMenuId)
+            .filter(menuId -> Objects.nonNull(catalog.find(menuId)))
+            .distinct()
+            .count();
+        if (distinctMenuCount != orderLineItemRequests.size()) {
             throw new IllegalArgumentException();
         }
         final List<OrderLineItem> orderLineItems = new ArrayList<>();
@@ -66,16 +101,15 @@ public class OrderService {
                     throw new IllegalArgumentException();
                 }
             }
-            final Menu menu = menuRepository.findById(orderLineItemRequest.getMenuId())
-                .orElseThrow(NoSuchElementException::new);
-            if (!menu.isDisplayed()) {
+            final MenuPriceView menu = catalog.find(orderLineItemRequest.getMenuId());
+            if (!menu.displayed()) {
                 throw new IllegalStateException();
             }
-            if (menu.getPrice().compareTo(orderLineItemRequest.getPrice()) != 0) {
+            if (!menu.price().equals(orderLineItemRequest.getPrice())) {
                 throw new IllegalArgumentException();
             }
             final OrderLineItem orderLineItem = new OrderLineItem();
-            orderLineItem.setMenu(menu);
+            orderLineItem.setMenu(menuRepository.getReferenceById(menu.id()));
             orderLineItem.setQuantity(quantity);
             orderLineItems.add(orderLineItem);
         }
@@ -98,96 +132,226 @@ public class OrderService {
             if (!orderTable.isOccupied()) {
                 throw new IllegalStateException();
             }
+            orderTable.setOpenOrderCount(orderTable.getOpenOrderCount() + 1);
             order.setOrderTable(orderTable);
         }
-        return orderRepository.save(order);
+        final Order savedOrder = orderRepository.save(order);
+        publishStatusChanged(savedOrder);
+        return savedOrder;
     }
 
     @Transactional
     public Order accept(final UUID orderId) {
         final Order order = orderRepository.findById(orderId)
             .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.WAITING) {
-            throw new IllegalStateException();
-        }
-        if (order.getType() == OrderType.DELIVERY) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
-                sum = orderLineItem.getMenu()
-                    .getPrice()
-                    .multiply(BigDecimal.valueOf(orderLineItem.getQuantity()));
-            }
-            kitchenridersClient.requestDelivery(orderId, sum, order.getDeliveryAddress());
-        }
-        order.setStatus(OrderStatus.ACCEPTED);
+        accept(order);
         return order;
     }
 
+    public BulkOrderTransitionResult acceptAll(final List<UUID> orderIds) {
+        return transitionAll(orderIds, this::accept);
+    }
+
     @Transactional
     public Order serve(final UUID orderId) {
         final Order order = orderRepository.findById(orderId)
             .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.ACCEPTED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.SERVED);
+        serve(order);
         return order;
     }
 
+    public BulkOrderTransitionResult serveAll(final List<UUID> orderIds) {
+        return transitionAll(orderIds, this::serve);
+    }
+
     @Transactional
     public Order startDelivery(final UUID orderId) {
         final Order order = orderRepository.findById(orderId)
             .orElseThrow(NoSuchElementException::new);
-        if (order.getType() != OrderType.DELIVERY) {
-            throw new IllegalStateException();
-        }
-        if (order.getStatus() != OrderStatus.SERVED) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERING);
+        startDelivery(order);
         return order;
     }
 
+    public BulkOrderTransitionResult startDeliveryAll(final List<UUID> orderIds) {
+        return transitionAll(orderIds, this::startDelivery);
+    }
+
     @Transactional
     public Order completeDelivery(final UUID orderId) {
         final Order order = orderRepository.findById(orderId)
             .orElseThrow(NoSuchElementException::new);
-        if (order.getStatus() != OrderStatus.DELIVERING) {
-            throw new IllegalStateException();
-        }
-        order.setStatus(OrderStatus.DELIVERED);
+        completeDelivery(order);
         return order;
     }
 
+    public BulkOrderTransitionResult completeDeliveryAll(final List<UUID> orderIds) {
+        return transitionAll(orderIds, this::completeDelivery);
+    }
+
     @Transactional
     public Order complete(final UUID orderId) {
         final Order order = orderRepository.findById(orderId)
             .orElseThrow(NoSuchElementException::new);
-        final OrderType type = order.getType();
-        final OrderStatus status = order.getStatus();
-        if (type == OrderType.DELIVERY) {
-            if (status != OrderStatus.DELIVERED) {
-                throw new IllegalStateException();
+        complete(order);
+        return order;
+    }
+
+    public BulkOrderTransitionResult completeAll(final List<UUID> orderIds) {
+        return transitionAll(orderIds, this::complete);
+    }
+
+    private BulkOrderTransitionResult transitionAll(final List<UUID> orderIds, final Consumer<Order> transition) {
+        if (Objects.isNull(orderIds) || orderIds.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Set<UUID> ids = new LinkedHashSet<>(orderIds);
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException();
+        }
+        try {
+            return transactionTemplate.execute(status -> transition(ids, transition));
+        } catch (final OptimisticLockingFailureException e) {
+            return transitionEach(ids, transition);
+        }
+    }
+
+    private BulkOrderTransitionResult transitionEach(final Set<UUID> ids, final Consumer<Order> transition) {
+        final List<UUID> transitionedIds = new ArrayList<>();
+        final List<BulkOrderTransitionResult.Failure> failures = new ArrayList<>();
+        for (final UUID id : ids) {
+            try {
+                final BulkOrderTransitionResult result = transactionTemplate.execute(
+                    status -> transition(Set.of(id), transition)
+                );
+                result.transitioned().forEach(order -> transitionedIds.add(order.getId()));
+                failures.addAll(result.failures());
+            } catch (final OptimisticLockingFailureException e) {
+                failures.add(new BulkOrderTransitionResult.Failure(id, "conflict"));
             }
         }
-        if (type == OrderType.TAKEOUT || type == OrderType.EAT_IN) {
-            if (status != OrderStatus.SERVED) {
-                throw new IllegalStateException();
+        if (transitionedIds.isEmpty()) {
+            return new BulkOrderTransitionResult(List.of(), failures);
+        }
+        final Map<UUID, Order> orders = orderRepository.findAllByIdIn(transitionedIds)
+            .stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+        final List<Order> transitioned = transitionedIds.stream()
+            .map(orders::get)
+            .toList();
+        return new BulkOrderTransitionResult(transitioned, failures);
+    }
+
+    private BulkOrderTransitionResult transition(final Set<UUID> ids, final Consumer<Order> transition) {
+        final Map<UUID, Order> orders = orderRepository.findAllByIdIn(ids)
+            .stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+        final List<Order> transitioned = new ArrayList<>();
+        final List<BulkOrderTransitionResult.Failure> failures = new ArrayList<>();
+        for (final UUID id : ids) {
+            final Order order = orders.get(id);
+            if (Objects.isNull(order)) {
+                failures.add(new BulkOrderTransitionResult.Failure(id, "not found"));
+                continue;
+            }
+            try {
+                transition.accept(order);
+                transitioned.add(order);
+            } catch (final IllegalStateException e) {
+                failures.add(new BulkOrderTransitionResult.Failure(id, "illegal status"));
             }
         }
-        order.setStatus(OrderStatus.COMPLETED);
-        if (type == OrderType.EAT_IN) {
+        return new BulkOrderTransitionResult(transitioned, failures);
+    }
+
+    private void accept(final Order order) {
+        apply(order, OrderTransition.ACCEPT);
+        if (order.getType() == OrderType.DELIVERY) {
+            long sum = 0L;
+            for (final OrderLineItem orderLineItem : order.getOrderLineItems()) {
+                sum = Math.addExact(
+                    sum,
+                    Math.multiplyExact(
+                        orderLineItem.getMenu()
+                            .getPrice()
+                            .minorUnits(),
+                        orderLineItem.getQuantity()
+                    )
+                );
+            }
+            final LocalDateTime now = LocalDateTime.now();
+            final DeliveryOutbox deliveryOutbox = new DeliveryOutbox();
+            deliveryOutbox.setIdempotencyKey(UUID.randomUUID());
+            deliveryOutbox.setOrderId(order.getId());
+            deliveryOutbox.setAmount(Money.ofMinorUnits(sum));
+            deliveryOutbox.setDeliveryAddress(order.getDeliveryAddress());
+            deliveryOutbox.setStatus(DeliveryOutboxStatus.PENDING);
+            deliveryOutbox.setNextAttemptAt(now);
+            deliveryOutbox.setCreatedAt(now);
+            deliveryOutboxRepository.save(deliveryOutbox);
+        }
+    }
+
+    private void serve(final Order order) {
+        apply(order, OrderTransition.SERVE);
+    }
+
+    private void startDelivery(final Order order) {
+        apply(order, OrderTransition.START_DELIVERY);
+    }
+
+    private void completeDelivery(final Order order) {
+        apply(order, OrderTransition.COMPLETE_DELIVERY);
+    }
+
+    private void complete(final Order order) {
+        apply(order, OrderTransition.COMPLETE);
+        if (order.getType() == OrderType.EAT_IN) {
             final OrderTable orderTable = order.getOrderTable();
-            if (!orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
+            if (orderTable.getOpenOrderCount() <= 0) {
+                log.warn(
+                    "Open order count of table {} is {} while completing order {}",
+                    orderTable.getId(),
+                    orderTable.getOpenOrderCount(),
+                    order.getId()
+                );
+                openOrderCountDrift.increment();
+                return;
+            }
+            orderTable.setOpenOrderCount(orderTable.getOpenOrderCount() - 1);
+            if (orderTable.getOpenOrderCount() == 0) {
                 orderTable.setNumberOfGuests(0);
                 orderTable.setOccupied(false);
             }
         }
-        return order;
+    }
+
+    private void apply(final Order order, final OrderTransition transition) {
+        transition.apply(order);
+        publishStatusChanged(order);
+    }
+
+    private void publishStatusChanged(final Order order) {
+        final UUID orderTableId = Objects.isNull(order.getOrderTable()) ? null : order.getOrderTable().getId();
+        eventPublisher.publishEvent(
+            new OrderStatusChangedEvent(order.getId(), order.getType(), order.getStatus(), orderTableId)
+        );
+    }
+
+    @Transactional(readOnly = true)
+    public List<Order> findAll(final UUID cursor, final int size) {
+        final Pageable page = KeysetPage.of(size);
+        if (Objects.isNull(cursor)) {
+            return orderRepository.findAllByOrderByIdAsc(page);
+        }
+        return orderRepository.findAllByIdGreaterThanOrderByIdAsc(cursor, page);
     }
 
     @Transactional(readOnly = true)
-    public List<Order> findAll() {
-        return orderRepository.findAll();
+    public List<OrderSummary> search(
+        final OrderSearchCondition condition,
+        final OrderSearchCursor cursor,
+        final int size
+    ) {
+        return orderRepository.search(condition, cursor, KeysetPage.of(size));
     }
 }
@@ -0,0 +1,9 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+
+import java.util.UUID;
+
+public record OrderStatusChangedEvent(UUID orderId, OrderType type, OrderStatus status, UUID orderTableId) {
+}
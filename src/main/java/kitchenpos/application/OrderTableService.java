@@ -1,9 +1,8 @@
 package kitchenpos.application;
 
-import kitchenpos.domain.OrderRepository;
-import kitchenpos.domain.OrderStatus;
 import kitchenpos.domain.OrderTable;
 import kitchenpos.domain.OrderTableRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,11 +14,9 @@ import java.util.UUID;
 @Service
 public class OrderTableService {
     private final OrderTableRepository orderTableRepository;
-    private final OrderRepository orderRepository;
 
-    public OrderTableService(final OrderTableRepository orderTableRepository, final OrderRepository orderRepository) {
+    public OrderTableService(final OrderTableRepository orderTableRepository) {
         this.orderTableRepository = orderTableRepository;
-        this.orderRepository = orderRepository;
     }
 
     @Transactional
@@ -33,6 +30,7 @@ public class OrderTableService {
         orderTable.setName(name);
         orderTable.setNumberOfGuests(0);
         orderTable.setOccupied(false);
+        orderTable.setOpenOrderCount(0);
         return orderTableRepository.save(orderTable);
     }
 
@@ -48,7 +46,7 @@ public class OrderTableService {
     public OrderTable clear(final UUID orderTableId) {
         final OrderTable orderTable = orderTableRepository.findById(orderTableId)
             .orElseThrow(NoSuchElementException::new);
-        if (orderRepository.existsByOrderTableAndStatusNot(orderTable, OrderStatus.COMPLETED)) {
+        if (orderTable.getOpenOrderCount() > 0) {
             throw new IllegalStateException();
         }
         orderTable.setNumberOfGuests(0);
@@ -72,7 +70,11 @@ public class OrderTableService {
     }
 
     @Transactional(readOnly = true)
-    public List<OrderTable> findAll() {
-        return orderTableRepository.findAll();
+    public List<OrderTable> findAll(final UUID cursor, final int size) {
+        final Pageable page = KeysetPage.of(size);
+        if (Objects.isNull(cursor)) {
+            return orderTableRepository.findAllByOrderByIdAsc(page);
+        }
+        return orderTableRepository.findAllByIdGreaterThanOrderByIdAsc(cursor, page);
     }
 }
@@ -0,0 +1,8 @@
+package kitchenpos.application;
+
+import java.util.List;
+
+public record ProductImportResult(long total, long imported, List<Failure> failures) {
+    public record Failure(long row, String name, String reason) {
+    }
+}
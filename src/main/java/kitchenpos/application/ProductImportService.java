@@ -0,0 +1,253 @@
+package kitchenpos.application;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import kitchenpos.domain.Money;
+import kitchenpos.infra.PurgomalumClient;
+import kitchenpos.infra.UuidBytes;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@Service
+public class ProductImportService {
+    private static final String INSERT_PRODUCT = "insert into product (id, name, price) values (?, ?, ?)";
+    private static final int MAX_NAME_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PurgomalumClient purgomalumClient;
+    private final ObjectMapper objectMapper;
+    private final ExecutorService profanityCheckExecutor;
+    private final int chunkSize;
+
+    public ProductImportService(
+        final JdbcTemplate jdbcTemplate,
+        final TransactionTemplate transactionTemplate,
+        final PurgomalumClient purgomalumClient,
+        final ObjectMapper objectMapper,
+        @Value("${kitchenpos.product.import.chunk-size:1000}") final int chunkSize,
+        @Value("${kitchenpos.product.import.parallelism:8}") final int parallelism,
+        @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads
+    ) {
+        if (chunkSize <= 0 || parallelism <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.purgomalumClient = purgomalumClient;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        final ThreadFactory threadFactory = virtualThreads
+            ? Thread.ofVirtual().name("product-import-", 0).factory()
+            : Thread.ofPlatform().name("product-import-", 0).factory();
+        this.profanityCheckExecutor = Executors.newFixedThreadPool(parallelism, threadFactory);
+    }
+
+    public ProductImportResult importJsonArray(final InputStream input) {
+        final Importer importer = new Importer();
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException();
+            }
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (Objects.isNull(token)) {
+                        importer.reject("malformed json");
+                        break;
+                    }
+                    importer.add(parser.readValueAsTree());
+                }
+            } catch (final JsonProcessingException e) {
+                importer.reject("malformed json");
+            }
+        } catch (final JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return importer.finish();
+    }
+
+    public ProductImportResult importNdjson(final InputStream input) {
+        final Importer importer = new Importer();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    importer.add(objectMapper.readTree(line));
+                } catch (final JsonProcessingException e) {
+                    importer.reject("malformed json");
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return importer.finish();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        profanityCheckExecutor.shutdown();
+    }
+
+    private static String nameOf(final JsonNode node) {
+        final JsonNode name = node.get("name");
+        if (Objects.isNull(name) || !name.isTextual()) {
+            return null;
+        }
+        return name.textValue();
+    }
+
+    private static Money priceOf(final JsonNode node) {
+        final JsonNode price = node.get("price");
+        if (Objects.isNull(price) || price.isNull()) {
+            return null;
+        }
+        try {
+            if (price.isNumber()) {
+                return Money.from(price.decimalValue());
+            }
+            return Money.from(new BigDecimal(price.asText()));
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private final class Importer {
+        private final List<Row> chunk = new ArrayList<>(chunkSize);
+        private final List<ProductImportResult.Failure> failures = new ArrayList<>();
+        private long total;
+        private long imported;
+
+        void add(final JsonNode node) {
+            total++;
+            if (Objects.isNull(node) || !node.isObject()) {
+                failures.add(new ProductImportResult.Failure(total, null, "malformed product"));
+                return;
+            }
+            chunk.add(new Row(total, nameOf(node), priceOf(node)));
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(final String reason) {
+            total++;
+            failures.add(new ProductImportResult.Failure(total, null, reason));
+        }
+
+        ProductImportResult finish() {
+            flush();
+            return new ProductImportResult(total, imported, failures);
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            final List<Row> valid = new ArrayList<>(chunk.size());
+            for (final Row row : chunk) {
+                if (Objects.isNull(row.price()) || row.price().isNegative()) {
+                    failures.add(new ProductImportResult.Failure(row.number(), row.name(), "invalid price"));
+                } else if (Objects.isNull(row.name()) || row.name().codePointCount(0, row.name().length()) > MAX_NAME_LENGTH) {
+                    failures.add(new ProductImportResult.Failure(row.number(), null, "invalid name"));
+                } else {
+                    valid.add(row);
+                }
+            }
+            final List<Row> accepted = rejectProfanity(valid);
+            insert(accepted);
+            chunk.clear();
+        }
+
+        private List<Row> rejectProfanity(final List<Row> rows) {
+            final List<CompletableFuture<Boolean>> checks = rows.stream()
+                .map(row -> CompletableFuture.supplyAsync(
+                    () -> purgomalumClient.containsProfanity(row.name()),
+                    profanityCheckExecutor
+                ))
+                .toList();
+            final List<Row> accepted = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                final Row row = rows.get(i);
+                try {
+                    if (checks.get(i).join()) {
+                        failures.add(new ProductImportResult.Failure(row.number(), row.name(), "profanity"));
+                    } else {
+                        accepted.add(row);
+                    }
+                } catch (final RuntimeException e) {
+                    failures.add(new ProductImportResult.Failure(row.number(), row.name(), "profanity check failed"));
+                }
+            }
+            return accepted;
+        }
+
+        private void insert(final List<Row> rows) {
+            if (rows.isEmpty()) {
+                return;
+            }
+            try {
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                    INSERT_PRODUCT,
+                    rows,
+                    rows.size(),
+                    (statement, row) -> {
+                        statement.setBytes(1, UuidBytes.toBytes(UUID.randomUUID()));
+                        statement.setString(2, row.name());
+                        statement.setBigDecimal(3, row.price().toBigDecimal());
+                    }
+                ));
+                imported += rows.size();
+            } catch (final DataAccessException e) {
+                insertEach(rows);
+            }
+        }
+
+        private void insertEach(final List<Row> rows) {
+            for (final Row row : rows) {
+                try {
+                    jdbcTemplate.update(
+                        INSERT_PRODUCT,
+                        UuidBytes.toBytes(UUID.randomUUID()),
+                        row.name(),
+                        row.price().toBigDecimal()
+                    );
+                    imported++;
+                } catch (final DataAccessException e) {
+                    failures.add(new ProductImportResult.Failure(row.number(), row.name(), "insert failed"));
+                }
+            }
+        }
+    }
+
+    private record Row(long number, String name, Money price) {
+    }
+}
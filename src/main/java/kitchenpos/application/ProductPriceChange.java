@@ -0,0 +1,34 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+import java.util.UUID;
+
+public record ProductPriceChange(UUID productId, Type type, BigDecimal amount) {
+    private static final BigDecimal ONE_HUNDRED = BigDecimal.valueOf(100);
+
+    public ProductPriceChange {
+        if (Objects.isNull(productId) || Objects.isNull(type) || Objects.isNull(amount)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    public Money applyTo(final Money price) {
+        if (type == Type.ABSOLUTE) {
+            return Money.from(amount);
+        }
+        return Money.from(
+            price.toBigDecimal()
+                .multiply(ONE_HUNDRED.add(amount))
+                .divide(ONE_HUNDRED, Money.SCALE, RoundingMode.HALF_UP)
+        );
+    }
+
+    public enum Type {
+        ABSOLUTE,
+        PERCENTAGE
+    }
+}
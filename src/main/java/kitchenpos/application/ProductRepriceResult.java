@@ -0,0 +1,11 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Product;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ProductRepriceResult(List<Product> products, List<HiddenMenu> hiddenMenus) {
+    public record HiddenMenu(UUID id, String name) {
+    }
+}
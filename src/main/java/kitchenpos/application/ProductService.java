@@ -1,16 +1,26 @@
 package kitchenpos.application;
 
 import kitchenpos.domain.Menu;
-import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.MenuProductQuantity;
 import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.MenuRevalidation;
+import kitchenpos.domain.MenuRevalidationRepository;
+import kitchenpos.domain.Money;
 import kitchenpos.domain.Product;
 import kitchenpos.domain.ProductRepository;
 import kitchenpos.infra.PurgomalumClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
@@ -19,22 +29,31 @@ import java.util.UUID;
 public class ProductService {
     private final ProductRepository productRepository;
     private final MenuRepository menuRepository;
+    private final MenuRevalidationRepository menuRevalidationRepository;
     private final PurgomalumClient purgomalumClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MenuRevalidationMode menuRevalidationMode;
 
     public ProductService(
         final ProductRepository productRepository,
         final MenuRepository menuRepository,
-        final PurgomalumClient purgomalumClient
+        final MenuRevalidationRepository menuRevalidationRepository,
+        final PurgomalumClient purgomalumClient,
+        final ApplicationEventPublisher eventPublisher,
+        @Value("${kitchenpos.product.menu-revalidation.mode:sync}") final MenuRevalidationMode menuRevalidationMode
     ) {
         this.productRepository = productRepository;
         this.menuRepository = menuRepository;
+        this.menuRevalidationRepository = menuRevalidationRepository;
         this.purgomalumClient = purgomalumClient;
+        this.eventPublisher = eventPublisher;
+        this.menuRevalidationMode = menuRevalidationMode;
     }
 
     @Transactional
     public Product create(final Product request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
         final String name = request.getName();
@@ -50,32 +69,96 @@ public class ProductService {
 
     @Transactional
     public Product changePrice(final UUID productId, final Product request) {
-        final BigDecimal price = request.getPrice();
-        if (Objects.isNull(price) || price.compareTo(BigDecimal.ZERO) < 0) {
+        final Money price = request.getPrice();
+        if (Objects.isNull(price) || price.isNegative()) {
             throw new IllegalArgumentException();
         }
-        final Product product = productRepository.findById(productId)
+        final Product product = productRepository.findForUpdateById(productId)
             .orElseThrow(NoSuchElementException::new);
+        if (menuRevalidationMode == MenuRevalidationMode.ASYNC) {
+            product.setPrice(price);
+            final LocalDateTime now = LocalDateTime.now();
+            final MenuRevalidation menuRevalidation = new MenuRevalidation();
+            menuRevalidation.setProductId(productId);
+            menuRevalidation.setEnqueuedAt(now);
+            menuRevalidation.setNextAttemptAt(now);
+            menuRevalidationRepository.save(menuRevalidation);
+            eventPublisher.publishEvent(new CatalogChangedEvent());
+            return product;
+        }
+        final List<Menu> menus = changeComponentPriceSums(Map.of(productId, price.minus(product.getPrice())));
         product.setPrice(price);
-        final List<Menu> menus = menuRepository.findAllByProductId(productId);
         for (final Menu menu : menus) {
-            BigDecimal sum = BigDecimal.ZERO;
-            for (final MenuProduct menuProduct : menu.getMenuProducts()) {
-                sum = sum.add(
-                    menuProduct.getProduct()
-                        .getPrice()
-                        .multiply(BigDecimal.valueOf(menuProduct.getQuantity()))
-                );
-            }
-            if (menu.getPrice().compareTo(sum) > 0) {
+            if (menu.getPrice().isGreaterThan(menu.getComponentPriceSum())) {
                 menu.setDisplayed(false);
             }
         }
+        eventPublisher.publishEvent(new CatalogChangedEvent());
         return product;
     }
 
+    @Transactional
+    public ProductRepriceResult changePrices(final List<ProductPriceChange> requests) {
+        if (Objects.isNull(requests) || requests.isEmpty()) {
+            throw new IllegalArgumentException();
+        }
+        final Map<UUID, ProductPriceChange> changes = new LinkedHashMap<>();
+        for (final ProductPriceChange request : requests) {
+            if (Objects.nonNull(changes.putIfAbsent(request.productId(), request))) {
+                throw new IllegalArgumentException();
+            }
+        }
+        final List<Product> products = productRepository.findAllForUpdateByIdIn(changes.keySet());
+        if (products.size() != changes.size()) {
+            throw new NoSuchElementException();
+        }
+        final Map<UUID, Money> priceDeltas = new HashMap<>();
+        for (final Product product : products) {
+            final Money price = changes.get(product.getId()).applyTo(product.getPrice());
+            if (price.isNegative()) {
+                throw new IllegalArgumentException();
+            }
+            priceDeltas.put(product.getId(), price.minus(product.getPrice()));
+            product.setPrice(price);
+        }
+        final List<ProductRepriceResult.HiddenMenu> hiddenMenus = new ArrayList<>();
+        for (final Menu menu : changeComponentPriceSums(priceDeltas)) {
+            if (menu.isDisplayed() && menu.getPrice().isGreaterThan(menu.getComponentPriceSum())) {
+                menu.setDisplayed(false);
+                hiddenMenus.add(new ProductRepriceResult.HiddenMenu(menu.getId(), menu.getName()));
+            }
+        }
+        eventPublisher.publishEvent(new CatalogChangedEvent());
+        return new ProductRepriceResult(products, hiddenMenus);
+    }
+
+    private List<Menu> changeComponentPriceSums(final Map<UUID, Money> productPriceDeltas) {
+        final Map<UUID, Money> componentPriceDeltas = new HashMap<>();
+        final List<MenuProductQuantity> rows =
+            menuRepository.findAllMenuProductQuantitiesByProductIdIn(productPriceDeltas.keySet());
+        for (final MenuProductQuantity row : rows) {
+            componentPriceDeltas.merge(
+                row.menuId(),
+                productPriceDeltas.get(row.productId()).times(row.quantity()),
+                Money::plus
+            );
+        }
+        if (componentPriceDeltas.isEmpty()) {
+            return List.of();
+        }
+        final List<Menu> menus = menuRepository.findAllForUpdateByIdIn(componentPriceDeltas.keySet());
+        for (final Menu menu : menus) {
+            menu.setComponentPriceSum(menu.getComponentPriceSum().plus(componentPriceDeltas.get(menu.getId())));
+        }
+        return menus;
+    }
+
     @Transactional(readOnly = true)
-    public List<Product> findAll() {
-        return productRepository.findAll();
+    public List<Product> findAll(final UUID cursor, final int size) {
+        final Pageable page = KeysetPage.of(size);
+        if (Objects.isNull(cursor)) {
+            return productRepository.findAllByOrderByIdAsc(page);
+        }
+        return productRepository.findAllByIdGreaterThanOrderByIdAsc(cursor, page);
     }
 }
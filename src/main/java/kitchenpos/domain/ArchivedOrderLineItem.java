@@ -0,0 +1,39 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.util.UUID;
+
+@Immutable
+@Table(name = "order_line_item_archive")
+@Entity
+public class ArchivedOrderLineItem {
+    @Column(name = "seq")
+    @Id
+    private Long seq;
+
+    @Column(name = "menu_id", nullable = false, columnDefinition = "binary(16)")
+    private UUID menuId;
+
+    @Column(name = "quantity", nullable = false)
+    private long quantity;
+
+    public ArchivedOrderLineItem() {
+    }
+
+    public Long getSeq() {
+        return seq;
+    }
+
+    public UUID getMenuId() {
+        return menuId;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,33 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, UUID> {
+    List<ArchivedOrder> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<ArchivedOrder> findAllByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+        "select new kitchenpos.domain.OrderExportRow("
+            + "o.id, o.type, o.status, o.orderDateTime, o.orderTableId, o.deliveryAddress, m.id, m.name, m.price, li.quantity)"
+            + " from ArchivedOrder o join o.orderLineItems li join Menu m on m.id = li.menuId"
+            + " where o.orderDateTime >= :from and o.orderDateTime < :to"
+            + " order by o.orderDateTime, o.id"
+    )
+    Stream<OrderExportRow> streamExportRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
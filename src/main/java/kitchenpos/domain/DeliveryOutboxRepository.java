@@ -0,0 +1,32 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface DeliveryOutboxRepository extends JpaRepository<DeliveryOutbox, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<DeliveryOutbox> findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+        DeliveryOutboxStatus status,
+        LocalDateTime now,
+        Pageable pageable
+    );
+
+    @Query("select o.seq from DeliveryOutbox o where o.status = :status and o.sentAt < :sentAt order by o.seq")
+    List<Long> findAllSeqsByStatusAndSentAtBefore(
+        @Param("status") DeliveryOutboxStatus status,
+        @Param("sentAt") LocalDateTime sentAt,
+        Pageable pageable
+    );
+
+    long countByStatus(DeliveryOutboxStatus status);
+}
@@ -0,0 +1,5 @@
+package kitchenpos.domain;
+
+public enum DeliveryOutboxStatus {
+    PENDING, SENT, FAILED
+}
@@ -1,5 +1,7 @@
 package kitchenpos.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -10,11 +12,15 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "menu")
 @Entity
 public class Menu {
@@ -26,7 +32,10 @@ public class Menu {
     private String name;
 
     @Column(name = "price", nullable = false)
-    private BigDecimal price;
+    private Money price;
+
+    @Column(name = "component_price_sum", nullable = false)
+    private Money componentPriceSum;
 
     @ManyToOne(optional = false)
     @JoinColumn(
@@ -39,6 +48,8 @@ public class Menu {
     @Column(name = "displayed", nullable = false)
     private boolean displayed;
 
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(
         name = "menu_id",
@@ -70,14 +81,23 @@ public class Menu {
         this.name = name;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
 
+    @JsonIgnore
+    public Money getComponentPriceSum() {
+        return componentPriceSum;
+    }
+
+    public void setComponentPriceSum(final Money componentPriceSum) {
+        this.componentPriceSum = componentPriceSum;
+    }
+
     public MenuGroup getMenuGroup() {
         return menuGroup;
     }
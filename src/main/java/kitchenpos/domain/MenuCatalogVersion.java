@@ -0,0 +1,38 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+@Table(name = "menu_catalog_version")
+@Entity
+public class MenuCatalogVersion {
+    public static final int ID = 1;
+
+    @Column(name = "id")
+    @Id
+    private Integer id;
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    public MenuCatalogVersion() {
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(final Integer id) {
+        this.id = id;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final long version) {
+        this.version = version;
+    }
+}
@@ -0,0 +1,16 @@
+package kitchenpos.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface MenuCatalogVersionRepository extends JpaRepository<MenuCatalogVersion, Integer> {
+    @Query("select coalesce(max(v.version), 0) from MenuCatalogVersion v where v.id = " + MenuCatalogVersion.ID)
+    long findVersion();
+
+    @Transactional
+    @Modifying
+    @Query("update MenuCatalogVersion v set v.version = v.version + 1 where v.id = " + MenuCatalogVersion.ID)
+    int increment();
+}
@@ -4,9 +4,12 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "menu_group")
 @Entity
 public class MenuGroup {
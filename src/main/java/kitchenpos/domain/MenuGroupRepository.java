@@ -1,8 +1,18 @@
 package kitchenpos.domain;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface MenuGroupRepository extends JpaRepository<MenuGroup, UUID> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<MenuGroup> findAllByOrderByIdAsc(Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<MenuGroup> findAllByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
 }
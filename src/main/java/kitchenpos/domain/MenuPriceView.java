@@ -0,0 +1,6 @@
+package kitchenpos.domain;
+
+import java.util.UUID;
+
+public record MenuPriceView(UUID id, Money price, boolean displayed) {
+}
@@ -8,16 +8,21 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
 @Table(name = "menu_product")
 @Entity
 public class MenuProduct {
     @Column(name = "seq")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_product_seq")
+    @SequenceGenerator(name = "menu_product_seq", sequenceName = "menu_product_seq", allocationSize = 50)
     @Id
     private Long seq;
 
@@ -1,15 +1,57 @@
 package kitchenpos.domain;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface MenuRepository extends JpaRepository<Menu, UUID> {
-    List<Menu> findAllByIdIn(List<UUID> ids);
+    @EntityGraph(attributePaths = "menuGroup")
+    List<Menu> findAllByOrderByIdAsc(Pageable pageable);
 
-    @Query("select m from Menu m join m.menuProducts mp where mp.product.id = :productId")
-    List<Menu> findAllByProductId(@Param("productId") UUID productId);
+    @EntityGraph(attributePaths = "menuGroup")
+    List<Menu> findAllByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"menuGroup", "menuProducts", "menuProducts.product"})
+    List<Menu> findAllByDisplayedTrue();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Menu m where m.id = :id")
+    Optional<Menu> findForUpdateById(@Param("id") UUID id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select m from Menu m where m.id in :ids order by m.id")
+    List<Menu> findAllForUpdateByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @Query("select distinct m.id from Menu m join m.menuProducts mp where mp.product.id in :productIds")
+    List<UUID> findAllIdsByProductIdIn(@Param("productIds") Collection<UUID> productIds);
+
+    @Query(
+        "select new kitchenpos.domain.MenuProductQuantity(m.id, mp.product.id, mp.quantity)"
+            + " from Menu m join m.menuProducts mp where mp.product.id in :productIds"
+    )
+    List<MenuProductQuantity> findAllMenuProductQuantitiesByProductIdIn(@Param("productIds") Collection<UUID> productIds);
+
+    @Query(
+        "select new kitchenpos.domain.MenuProductQuantity(m.id, mp.product.id, mp.quantity)"
+            + " from Menu m join m.menuProducts mp where m.id in :menuIds"
+    )
+    List<MenuProductQuantity> findAllMenuProductQuantitiesByMenuIdIn(@Param("menuIds") Collection<UUID> menuIds);
+
+    @Query("select m.id from Menu m order by m.id")
+    List<UUID> findAllIds(Pageable pageable);
+
+    @Query("select m.id from Menu m where m.id > :id order by m.id")
+    List<UUID> findAllIdsByIdGreaterThan(@Param("id") UUID id, Pageable pageable);
+
+    @Query("select new kitchenpos.domain.MenuPriceView(m.id, m.price, m.displayed) from Menu m")
+    List<MenuPriceView> findAllMenuPriceViews();
 }
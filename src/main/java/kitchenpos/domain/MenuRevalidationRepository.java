@@ -0,0 +1,27 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MenuRevalidationRepository extends JpaRepository<MenuRevalidation, Long> {
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<MenuRevalidation> findAllByNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+        LocalDateTime now,
+        Pageable pageable
+    );
+
+    @Query("select count(distinct r.productId) from MenuRevalidation r")
+    long countPendingProducts();
+
+    @Query("select min(r.enqueuedAt) from MenuRevalidation r")
+    LocalDateTime findOldestEnqueuedAt();
+}
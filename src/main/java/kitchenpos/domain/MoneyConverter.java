@@ -0,0 +1,26 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+    @Override
+    public BigDecimal convertToDatabaseColumn(final Money money) {
+        if (Objects.isNull(money)) {
+            return null;
+        }
+        return money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(final BigDecimal amount) {
+        if (Objects.isNull(amount)) {
+            return null;
+        }
+        return Money.from(amount);
+    }
+}
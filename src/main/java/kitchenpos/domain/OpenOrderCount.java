@@ -0,0 +1,6 @@
+package kitchenpos.domain;
+
+import java.util.UUID;
+
+public record OpenOrderCount(UUID orderTableId, long count) {
+}
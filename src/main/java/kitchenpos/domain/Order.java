@@ -12,6 +12,8 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -35,6 +37,7 @@ public class Order {
     @Column(name = "order_date_time", nullable = false)
     private LocalDateTime orderDateTime;
 
+    @BatchSize(size = 100)
     @OneToMany(cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(
         name = "order_id",
@@ -55,6 +58,10 @@ public class Order {
     )
     private OrderTable orderTable;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @Transient
     private UUID orderTableId;
 
@@ -117,6 +124,14 @@ public class Order {
         this.orderTable = orderTable;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
     public UUID getOrderTableId() {
         return orderTableId;
     }
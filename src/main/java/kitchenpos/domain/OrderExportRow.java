@@ -0,0 +1,18 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderExportRow(
+    UUID orderId,
+    OrderType type,
+    OrderStatus status,
+    LocalDateTime orderDateTime,
+    UUID orderTableId,
+    String deliveryAddress,
+    UUID menuId,
+    String menuName,
+    Money menuPrice,
+    long quantity
+) {
+}
@@ -8,17 +8,18 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Table(name = "order_line_item")
 @Entity
 public class OrderLineItem {
     @Column(name = "seq")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_line_item_seq")
+    @SequenceGenerator(name = "order_line_item_seq", sequenceName = "order_line_item_seq", allocationSize = 50)
     @Id
     private Long seq;
 
@@ -37,7 +38,7 @@ public class OrderLineItem {
     private UUID menuId;
 
     @Transient
-    private BigDecimal price;
+    private Money price;
 
     public OrderLineItem() {
     }
@@ -74,11 +75,11 @@ public class OrderLineItem {
         this.menuId = menuId;
     }
 
-    public BigDecimal getPrice() {
+    public Money getPrice() {
         return price;
     }
 
-    public void setPrice(final BigDecimal price) {
+    public void setPrice(final Money price) {
         this.price = price;
     }
 }
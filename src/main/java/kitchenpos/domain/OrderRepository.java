@@ -1,9 +1,47 @@
 package kitchenpos.domain;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface OrderRepository extends JpaRepository<Order, UUID> {
-    boolean existsByOrderTableAndStatusNot(OrderTable orderTable, OrderStatus status);
+public interface OrderRepository extends JpaRepository<Order, UUID>, OrderSearchRepository {
+    @EntityGraph(attributePaths = "orderTable")
+    List<Order> findAllByOrderByIdAsc(Pageable pageable);
+
+    @EntityGraph(attributePaths = "orderTable")
+    List<Order> findAllByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
+
+    @EntityGraph(attributePaths = "orderTable")
+    List<Order> findAllByIdIn(Collection<UUID> ids);
+
+    @Query(
+        "select new kitchenpos.domain.OpenOrderCount(o.orderTable.id, count(o)) from Order o"
+            + " where o.orderTable.id in :orderTableIds and o.status <> kitchenpos.domain.OrderStatus.COMPLETED"
+            + " group by o.orderTable.id"
+    )
+    List<OpenOrderCount> countOpenOrdersByOrderTableIdIn(@Param("orderTableIds") Collection<UUID> orderTableIds);
+
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+        "select new kitchenpos.domain.OrderExportRow("
+            + "o.id, o.type, o.status, o.orderDateTime, t.id, o.deliveryAddress, m.id, m.name, m.price, li.quantity)"
+            + " from Order o join o.orderLineItems li join li.menu m left join o.orderTable t"
+            + " where o.orderDateTime >= :from and o.orderDateTime < :to"
+            + " order by o.orderDateTime, o.id"
+    )
+    Stream<OrderExportRow> streamExportRows(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,21 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+public record OrderSearchCondition(
+    Set<OrderStatus> statuses,
+    OrderType type,
+    UUID orderTableId,
+    LocalDateTime from,
+    LocalDateTime to
+) {
+    public OrderSearchCondition {
+        statuses = Objects.isNull(statuses) ? Set.of() : Set.copyOf(statuses);
+        if (Objects.nonNull(from) && Objects.nonNull(to) && !from.isBefore(to)) {
+            throw new IllegalArgumentException();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Objects;
+import java.util.UUID;
+
+public record OrderSearchCursor(LocalDateTime orderDateTime, UUID id) {
+    private static final String SEPARATOR = "_";
+
+    public OrderSearchCursor {
+        if (Objects.isNull(orderDateTime) || Objects.isNull(id)) {
+            throw new IllegalArgumentException();
+        }
+    }
+
+    public static OrderSearchCursor of(final OrderSummary summary) {
+        return new OrderSearchCursor(summary.orderDateTime(), summary.id());
+    }
+
+    public static OrderSearchCursor parse(final String cursor) {
+        final int separator = cursor.indexOf(SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException();
+        }
+        try {
+            return new OrderSearchCursor(
+                LocalDateTime.parse(cursor.substring(0, separator)),
+                UUID.fromString(cursor.substring(separator + 1))
+            );
+        } catch (final DateTimeParseException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return orderDateTime + SEPARATOR + id;
+    }
+}
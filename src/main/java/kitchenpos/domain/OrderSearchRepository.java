@@ -0,0 +1,9 @@
+package kitchenpos.domain;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface OrderSearchRepository {
+    List<OrderSummary> search(OrderSearchCondition condition, OrderSearchCursor cursor, Pageable pageable);
+}
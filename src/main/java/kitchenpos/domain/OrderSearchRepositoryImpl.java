@@ -0,0 +1,77 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+class OrderSearchRepositoryImpl implements OrderSearchRepository {
+    private final EntityManager entityManager;
+
+    OrderSearchRepositoryImpl(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<OrderSummary> search(
+        final OrderSearchCondition condition,
+        final OrderSearchCursor cursor,
+        final Pageable pageable
+    ) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<OrderSummary> query = cb.createQuery(OrderSummary.class);
+        final Root<Order> order = query.from(Order.class);
+        final Join<Order, OrderTable> orderTable = order.join("orderTable", JoinType.LEFT);
+
+        final List<Predicate> predicates = new ArrayList<>();
+        if (!condition.statuses().isEmpty()) {
+            predicates.add(order.get("status").in(condition.statuses()));
+        }
+        if (Objects.nonNull(condition.type())) {
+            predicates.add(cb.equal(order.get("type"), condition.type()));
+        }
+        if (Objects.nonNull(condition.orderTableId())) {
+            predicates.add(cb.equal(orderTable.get("id"), condition.orderTableId()));
+        }
+        if (Objects.nonNull(condition.from())) {
+            predicates.add(cb.greaterThanOrEqualTo(order.<LocalDateTime>get("orderDateTime"), condition.from()));
+        }
+        if (Objects.nonNull(condition.to())) {
+            predicates.add(cb.lessThan(order.<LocalDateTime>get("orderDateTime"), condition.to()));
+        }
+        if (Objects.nonNull(cursor)) {
+            predicates.add(cb.or(
+                cb.greaterThan(order.<LocalDateTime>get("orderDateTime"), cursor.orderDateTime()),
+                cb.and(
+                    cb.equal(order.get("orderDateTime"), cursor.orderDateTime()),
+                    cb.greaterThan(order.<UUID>get("id"), cursor.id())
+                )
+            ));
+        }
+
+        query.select(cb.construct(
+                OrderSummary.class,
+                order.get("id"),
+                order.get("type"),
+                order.get("status"),
+                order.get("orderDateTime"),
+                orderTable.get("id"),
+                order.get("deliveryAddress")
+            ))
+            .where(predicates.toArray(Predicate[]::new))
+            .orderBy(cb.asc(order.get("orderDateTime")), cb.asc(order.get("id")));
+        return entityManager.createQuery(query)
+            .setMaxResults(pageable.getPageSize())
+            .getResultList();
+    }
+}
@@ -0,0 +1,14 @@
+package kitchenpos.domain;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record OrderSummary(
+    UUID id,
+    OrderType type,
+    OrderStatus status,
+    LocalDateTime orderDateTime,
+    UUID orderTableId,
+    String deliveryAddress
+) {
+}
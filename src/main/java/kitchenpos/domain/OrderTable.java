@@ -4,6 +4,7 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.util.UUID;
 
@@ -23,6 +24,13 @@ public class OrderTable {
     @Column(name = "occupied", nullable = false)
     private boolean occupied;
 
+    @Column(name = "open_order_count", nullable = false)
+    private int openOrderCount;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public OrderTable() {
     }
 
@@ -57,4 +65,20 @@ public class OrderTable {
     public void setOccupied(final boolean occupied) {
         this.occupied = occupied;
     }
+
+    public int getOpenOrderCount() {
+        return openOrderCount;
+    }
+
+    public void setOpenOrderCount(final int openOrderCount) {
+        this.openOrderCount = openOrderCount;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
 }
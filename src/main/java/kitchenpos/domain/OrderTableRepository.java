@@ -1,8 +1,21 @@
 package kitchenpos.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface OrderTableRepository extends JpaRepository<OrderTable, UUID> {
+    List<OrderTable> findAllByOrderByIdAsc(Pageable pageable);
+
+    List<OrderTable> findAllByIdGreaterThanOrderByIdAsc(UUID id, Pageable pageable);
+
+    @Query("select t.id from OrderTable t order by t.id")
+    List<UUID> findAllIds(Pageable pageable);
+
+    @Query("select t.id from OrderTable t where t.id > :id order by t.id")
+    List<UUID> findAllIdsByIdGreaterThan(@Param("id") UUID id, Pageable pageable);
 }
@@ -0,0 +1,62 @@
+package kitchenpos.domain;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public enum OrderTransition {
+    ACCEPT(
+        OrderStatus.ACCEPTED,
+        Map.of(
+            OrderType.DELIVERY, OrderStatus.WAITING,
+            OrderType.TAKEOUT, OrderStatus.WAITING,
+            OrderType.EAT_IN, OrderStatus.WAITING
+        )
+    ),
+    SERVE(
+        OrderStatus.SERVED,
+        Map.of(
+            OrderType.DELIVERY, OrderStatus.ACCEPTED,
+            OrderType.TAKEOUT, OrderStatus.ACCEPTED,
+            OrderType.EAT_IN, OrderStatus.ACCEPTED
+        )
+    ),
+    START_DELIVERY(
+        OrderStatus.DELIVERING,
+        Map.of(OrderType.DELIVERY, OrderStatus.SERVED)
+    ),
+    COMPLETE_DELIVERY(
+        OrderStatus.DELIVERED,
+        Map.of(OrderType.DELIVERY, OrderStatus.DELIVERING)
+    ),
+    COMPLETE(
+        OrderStatus.COMPLETED,
+        Map.of(
+            OrderType.DELIVERY, OrderStatus.DELIVERED,
+            OrderType.TAKEOUT, OrderStatus.SERVED,
+            OrderType.EAT_IN, OrderStatus.SERVED
+        )
+    );
+
+    private final OrderStatus target;
+    private final Map<OrderType, OrderStatus> sources;
+
+    OrderTransition(final OrderStatus target, final Map<OrderType, OrderStatus> sources) {
+        this.target = target;
+        this.sources = new EnumMap<>(sources);
+    }
+
+    public OrderStatus target() {
+        return target;
+    }
+
+    public boolean isAllowed(final OrderType type, final OrderStatus status) {
+        return status != null && sources.get(type) == status;
+    }
+
+    public void apply(final Order order) {
+        if (!isAllowed(order.getType(), order.getStatus())) {
+            throw new IllegalStateException();
+        }
+        order.setStatus(target);
+    }
+}
@@ -0,0 +1,91 @@
+package kitchenpos.infra;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class LocalProfanityDetector {
+    private static final Logger log = LoggerFactory.getLogger(LocalProfanityDetector.class);
+    private static final String COMMENT_PREFIX = "#";
+
+    private final Resource words;
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile ProfanityMatcher matcher;
+    private volatile long lastModified;
+
+    public LocalProfanityDetector(
+        final ResourceLoader resourceLoader,
+        @Value("${kitchenpos.profanity.words-location:classpath:profanity/words.txt}") final String wordsLocation
+    ) {
+        this.words = resourceLoader.getResource(wordsLocation);
+        reload();
+    }
+
+    public boolean containsProfanity(final String text) {
+        return matcher.matches(text);
+    }
+
+    public void reload() {
+        reloadLock.lock();
+        try {
+            final long modified = lastModifiedOf(words);
+            final ProfanityMatcher loaded = new ProfanityMatcher(readWords(words));
+            this.matcher = loaded;
+            this.lastModified = modified;
+            log.info("Loaded {} profanity words from {}", loaded.size(), words.getDescription());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${kitchenpos.profanity.reload-interval:30000}",
+        fixedDelayString = "${kitchenpos.profanity.reload-interval:30000}"
+    )
+    public void reloadIfModified() {
+        final long modified = lastModifiedOf(words);
+        if (modified > lastModified) {
+            reload();
+        }
+    }
+
+    private static List<String> readWords(final Resource resource) {
+        final List<String> result = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8)
+        )) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String word = line.strip();
+                if (!word.isEmpty() && !word.startsWith(COMMENT_PREFIX)) {
+                    result.add(word);
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to load profanity words from " + resource.getDescription(), e);
+        }
+        return result;
+    }
+
+    private static long lastModifiedOf(final Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (final IOException e) {
+            return 0L;
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package kitchenpos.infra;
+
+public enum ProfanityCheckMode {
+    LOCAL,
+    REMOTE
+}
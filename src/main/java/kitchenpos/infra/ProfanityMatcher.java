@@ -0,0 +1,158 @@
+package kitchenpos.infra;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+
+final class ProfanityMatcher {
+    private static final Map<Character, Character> LEETSPEAK = Map.of(
+        '0', 'o',
+        '1', 'i',
+        '3', 'e',
+        '4', 'a',
+        '5', 's',
+        '7', 't',
+        '@', 'a',
+        '$', 's',
+        '!', 'i'
+    );
+    private static final char SEPARATOR = ' ';
+
+    private final Node root = new Node();
+    private final int size;
+
+    ProfanityMatcher(final Collection<String> words) {
+        int count = 0;
+        for (final String word : words) {
+            final String normalized = normalize(word).trim();
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            Node node = root;
+            for (int i = 0; i < normalized.length(); i++) {
+                node = node.children.computeIfAbsent(normalized.charAt(i), key -> new Node());
+            }
+            if (node.length == 0) {
+                node.length = normalized.length();
+                count++;
+            }
+        }
+        this.size = count;
+        buildFailureLinks();
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean matches(final String text) {
+        if (Objects.isNull(text) || text.isEmpty()) {
+            return false;
+        }
+        final String normalized = normalize(text);
+        Node node = root;
+        for (int i = 0; i < normalized.length(); i++) {
+            final char c = normalized.charAt(i);
+            while (node != root && !node.children.containsKey(c)) {
+                node = node.failure;
+            }
+            node = node.children.getOrDefault(c, root);
+            for (Node output = node; output != root; output = output.failure) {
+                if (output.length > 0 && isWholeWord(normalized, i - output.length + 1, i + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static String normalize(final String text) {
+        final String lowerCase = text.toLowerCase(Locale.ROOT);
+        final StringBuilder builder = new StringBuilder(lowerCase.length());
+        int tokenEnd = 0;
+        boolean tokenHasLetter = false;
+        for (int i = 0; i < lowerCase.length(); i++) {
+            final char c = lowerCase.charAt(i);
+            if (i >= tokenEnd) {
+                tokenEnd = tokenEnd(lowerCase, i);
+                tokenHasLetter = containsLetter(lowerCase, i, tokenEnd);
+            }
+            final Character replaced = LEETSPEAK.get(c);
+            if (Character.isLetter(c)) {
+                builder.append(c);
+            } else if (tokenHasLetter && Objects.nonNull(replaced) && (c != '!' || isFollowedByLetter(lowerCase, i))) {
+                builder.append(replaced);
+            } else if (builder.isEmpty() || builder.charAt(builder.length() - 1) != SEPARATOR) {
+                builder.append(SEPARATOR);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static int tokenEnd(final String text, final int start) {
+        int end = start;
+        while (end < text.length() && isTokenCharacter(text.charAt(end))) {
+            end++;
+        }
+        return Math.max(end, start + 1);
+    }
+
+    private static boolean isTokenCharacter(final char c) {
+        return Character.isLetter(c) || LEETSPEAK.containsKey(c);
+    }
+
+    private static boolean containsLetter(final String text, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            if (Character.isLetter(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isFollowedByLetter(final String text, final int index) {
+        return index + 1 < text.length() && Character.isLetter(text.charAt(index + 1));
+    }
+
+    private static boolean isWholeWord(final String text, final int start, final int end) {
+        final boolean startsWord = start == 0 || text.charAt(start - 1) == SEPARATOR;
+        final boolean endsWord = end == text.length() || text.charAt(end) == SEPARATOR;
+        return startsWord && endsWord;
+    }
+
+    private void buildFailureLinks() {
+        final Queue<Node> queue = new ArrayDeque<>();
+        root.failure = root;
+        for (final Node child : root.children.values()) {
+            child.failure = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            final Node node = queue.poll();
+            final List<Map.Entry<Character, Node>> entries = new ArrayList<>(node.children.entrySet());
+            for (final Map.Entry<Character, Node> entry : entries) {
+                final char c = entry.getKey();
+                final Node child = entry.getValue();
+                Node failure = node.failure;
+                while (failure != root && !failure.children.containsKey(c)) {
+                    failure = failure.failure;
+                }
+                final Node candidate = failure.children.get(c);
+                child.failure = Objects.nonNull(candidate) && candidate != child ? candidate : root;
+                queue.add(child);
+            }
+        }
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private Node failure;
+        private int length;
+    }
+}
@@ -0,0 +1,180 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+@Component
+public class ProfanityVerdictCache {
+    private static final Pattern WHITESPACES = Pattern.compile("\\s+");
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final LinkedHashMap<String, Verdict> verdicts;
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ProfanityVerdictCache(
+        @Value("${kitchenpos.profanity.cache.maximum-size:10000}") final int maximumSize,
+        @Value("${kitchenpos.profanity.cache.ttl:600000}") final long ttlMillis,
+        final MeterRegistry meterRegistry
+    ) {
+        if (maximumSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException();
+        }
+        this.maximumSize = maximumSize;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        this.verdicts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, Verdict> eldest) {
+                if (size() > ProfanityVerdictCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        bindTo(meterRegistry);
+    }
+
+    public boolean get(final String text, final Predicate<String> loader) {
+        final String key = normalize(text);
+        final Boolean cached = lookup(key);
+        if (Objects.nonNull(cached)) {
+            hits.increment();
+            return cached;
+        }
+        final CompletableFuture<Boolean> request = new CompletableFuture<>();
+        final CompletableFuture<Boolean> pending = inFlight.computeIfAbsent(
+            key,
+            ignored -> Objects.isNull(lookup(key)) ? request : null
+        );
+        if (Objects.isNull(pending)) {
+            return get(text, loader);
+        }
+        misses.increment();
+        if (pending != request) {
+            return await(pending);
+        }
+        try {
+            final boolean containsProfanity = loader.test(text);
+            store(key, containsProfanity);
+            request.complete(containsProfanity);
+            return containsProfanity;
+        } catch (final RuntimeException e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, request);
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            verdicts.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return verdicts.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    static String normalize(final String text) {
+        return WHITESPACES.matcher(text.strip())
+            .replaceAll(" ")
+            .toLowerCase(Locale.ROOT);
+    }
+
+    private Boolean lookup(final String key) {
+        lock.lock();
+        try {
+            final Verdict verdict = verdicts.get(key);
+            if (Objects.isNull(verdict)) {
+                return null;
+            }
+            if (verdict.isExpired(System.nanoTime())) {
+                verdicts.remove(key);
+                evictions.increment();
+                return null;
+            }
+            return verdict.containsProfanity();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void store(final String key, final boolean containsProfanity) {
+        lock.lock();
+        try {
+            verdicts.put(key, new Verdict(containsProfanity, System.nanoTime() + ttlNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean await(final CompletableFuture<Boolean> pending) {
+        try {
+            return pending.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void bindTo(final MeterRegistry meterRegistry) {
+        FunctionCounter.builder("kitchenpos.profanity.cache.hits", this, ProfanityVerdictCache::hitCount)
+            .register(meterRegistry);
+        FunctionCounter.builder("kitchenpos.profanity.cache.misses", this, ProfanityVerdictCache::missCount)
+            .register(meterRegistry);
+        FunctionCounter.builder("kitchenpos.profanity.cache.evictions", this, ProfanityVerdictCache::evictionCount)
+            .register(meterRegistry);
+        Gauge.builder("kitchenpos.profanity.cache.size", this, ProfanityVerdictCache::size)
+            .register(meterRegistry);
+    }
+
+    private record Verdict(boolean containsProfanity, long expiresAt) {
+        boolean isExpired(final long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package kitchenpos.infra;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -10,12 +11,36 @@ import java.net.URI;
 @Component
 public class PurgomalumClient {
     private final RestTemplate restTemplate;
+    private final LocalProfanityDetector localProfanityDetector;
+    private final ProfanityVerdictCache profanityVerdictCache;
+    private final ProfanityCheckMode mode;
+    private final boolean remoteFallback;
 
-    public PurgomalumClient(final RestTemplateBuilder restTemplateBuilder) {
+    public PurgomalumClient(
+        final RestTemplateBuilder restTemplateBuilder,
+        final LocalProfanityDetector localProfanityDetector,
+        final ProfanityVerdictCache profanityVerdictCache,
+        @Value("${kitchenpos.profanity.mode:local}") final ProfanityCheckMode mode,
+        @Value("${kitchenpos.profanity.remote-fallback:false}") final boolean remoteFallback
+    ) {
         this.restTemplate = restTemplateBuilder.build();
+        this.localProfanityDetector = localProfanityDetector;
+        this.profanityVerdictCache = profanityVerdictCache;
+        this.mode = mode;
+        this.remoteFallback = remoteFallback;
     }
 
     public boolean containsProfanity(final String text) {
+        if (mode == ProfanityCheckMode.REMOTE) {
+            return profanityVerdictCache.get(text, this::requestContainsProfanity);
+        }
+        if (localProfanityDetector.containsProfanity(text)) {
+            return true;
+        }
+        return remoteFallback && profanityVerdictCache.get(text, this::requestContainsProfanity);
+    }
+
+    boolean requestContainsProfanity(final String text) {
         final URI url = UriComponentsBuilder.fromUriString("https://www.purgomalum.com/service/containsprofanity")
             .queryParam("text", text)
             .build()
@@ -0,0 +1,26 @@
+package kitchenpos.infra;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+public final class UuidBytes {
+    private static final int UUID_LENGTH = 16;
+
+    private UuidBytes() {
+    }
+
+    public static byte[] toBytes(final UUID uuid) {
+        return ByteBuffer.allocate(UUID_LENGTH)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array();
+    }
+
+    public static UUID fromBytes(final byte[] bytes) {
+        if (bytes.length != UUID_LENGTH) {
+            throw new IllegalArgumentException();
+        }
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
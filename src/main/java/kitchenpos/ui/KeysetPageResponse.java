@@ -0,0 +1,22 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.KeysetPage;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+final class KeysetPageResponse {
+    static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    private KeysetPageResponse() {
+    }
+
+    static <T> ResponseEntity<List<T>> ok(final List<T> content, final int size, final Function<T, ?> cursorExtractor) {
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!content.isEmpty() && content.size() >= KeysetPage.of(size).getPageSize()) {
+            response.header(NEXT_CURSOR, cursorExtractor.apply(content.get(content.size() - 1)).toString());
+        }
+        return response.body(content);
+    }
+}
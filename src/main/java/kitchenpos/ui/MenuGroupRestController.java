@@ -1,5 +1,6 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.KeysetPage;
 import kitchenpos.application.MenuGroupService;
 import kitchenpos.domain.MenuGroup;
 import org.springframework.http.ResponseEntity;
@@ -7,10 +8,12 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
 import java.util.List;
+import java.util.UUID;
 
 @RequestMapping("/api/menu-groups")
 @RestController
@@ -29,7 +32,10 @@ public class MenuGroupRestController {
     }
 
     @GetMapping
-    public ResponseEntity<List<MenuGroup>> findAll() {
-        return ResponseEntity.ok(menuGroupService.findAll());
+    public ResponseEntity<List<MenuGroup>> findAll(
+        @RequestParam(required = false) final UUID cursor,
+        @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) final int size
+    ) {
+        return KeysetPageResponse.ok(menuGroupService.findAll(cursor, size), size, MenuGroup::getId);
     }
 }
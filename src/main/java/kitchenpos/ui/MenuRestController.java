@@ -1,27 +1,39 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.DisplayedMenus;
+import kitchenpos.application.KeysetPage;
 import kitchenpos.application.MenuService;
 import kitchenpos.domain.Menu;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @RequestMapping("/api/menus")
 @RestController
 public class MenuRestController {
+    private static final String GZIP = "gzip";
+
     private final MenuService menuService;
+    private final DisplayedMenus displayedMenus;
 
-    public MenuRestController(final MenuService menuService) {
+    public MenuRestController(final MenuService menuService, final DisplayedMenus displayedMenus) {
         this.menuService = menuService;
+        this.displayedMenus = displayedMenus;
     }
 
     @PostMapping
@@ -46,8 +58,33 @@ public class MenuRestController {
         return ResponseEntity.ok(menuService.hide(menuId));
     }
 
+    @GetMapping("/displayed")
+    public ResponseEntity<byte[]> findAllDisplayed(
+        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) final String ifNoneMatch,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) final String acceptEncoding
+    ) {
+        final DisplayedMenus.Document document = displayedMenus.document();
+        if (Objects.nonNull(ifNoneMatch) && ifNoneMatch.contains(document.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(document.etag())
+                .build();
+        }
+        final ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(document.etag())
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+            .contentType(MediaType.APPLICATION_JSON);
+        if (Objects.nonNull(acceptEncoding) && acceptEncoding.contains(GZIP)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, GZIP)
+                .body(document.gzippedJson());
+        }
+        return response.body(document.json());
+    }
+
     @GetMapping
-    public ResponseEntity<List<Menu>> findAll() {
-        return ResponseEntity.ok(menuService.findAll());
+    public ResponseEntity<List<Menu>> findAll(
+        @RequestParam(required = false) final UUID cursor,
+        @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) final int size
+    ) {
+        return KeysetPageResponse.ok(menuService.findAll(cursor, size), size, Menu::getId);
     }
 }
@@ -0,0 +1,284 @@
+package kitchenpos.ui;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import kitchenpos.application.OrderStatusChangedEvent;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class OrderEventStream {
+    private static final String EVENT_NAME = "order";
+    private static final String RESET_EVENT_NAME = "reset";
+    private static final long NO_RESET = -1L;
+    private static final long IDLE = Long.MIN_VALUE;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Entry> replay = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ExecutorService dispatchExecutor;
+    private final Counter dropped;
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+    private final int replaySize;
+    private final int clientBufferSize;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+    private long lastId;
+
+    public OrderEventStream(
+        final MeterRegistry meterRegistry,
+        @Value("${kitchenpos.order.events.replay-size:1024}") final int replaySize,
+        @Value("${kitchenpos.order.events.client-buffer-size:256}") final int clientBufferSize,
+        @Value("${kitchenpos.order.events.timeout:1800000}") final long timeoutMillis,
+        @Value("${kitchenpos.order.events.send-timeout:10000}") final long sendTimeoutMillis,
+        @Value("${spring.threads.virtual.enabled:false}") final boolean virtualThreads
+    ) {
+        if (replaySize <= 0 || clientBufferSize <= 0 || sendTimeoutMillis <= 0) {
+            throw new IllegalArgumentException();
+        }
+        final ThreadFactory threadFactory = virtualThreads
+            ? Thread.ofVirtual().name("order-events-", 0).factory()
+            : Thread.ofPlatform().name("order-events-", 0).factory();
+        this.dispatchExecutor = virtualThreads
+            ? Executors.newThreadPerTaskExecutor(threadFactory)
+            : Executors.newCachedThreadPool(threadFactory);
+        this.dropped = meterRegistry.counter("kitchenpos.order.events.dropped");
+        Gauge.builder("kitchenpos.order.events.subscribers", subscribers, Set::size)
+            .register(meterRegistry);
+        this.replaySize = replaySize;
+        this.clientBufferSize = clientBufferSize;
+        this.timeoutMillis = timeoutMillis;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+    }
+
+    public SseEmitter subscribe(final Set<OrderStatus> statuses, final Set<OrderType> types, final String lastEventId) {
+        final SseEmitter emitter = new SseEmitter(timeoutMillis);
+        final Subscriber subscriber = new Subscriber(emitter, statuses, types);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        lock.lock();
+        try {
+            if (Objects.nonNull(lastEventId)) {
+                replayTo(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+        subscriber.drain();
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onOrderStatusChanged(final OrderStatusChangedEvent event) {
+        final List<Subscriber> overflowed = new ArrayList<>();
+        lock.lock();
+        try {
+            final Entry entry = new Entry(++lastId, event);
+            replay.addLast(entry);
+            if (replay.size() > replaySize) {
+                replay.removeFirst();
+            }
+            for (final Subscriber subscriber : subscribers) {
+                if (subscriber.accepts(event) && !subscriber.offer(entry)) {
+                    overflowed.add(subscriber);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        subscribers.forEach(Subscriber::drain);
+        overflowed.forEach(this::drop);
+    }
+
+    @Scheduled(fixedDelayString = "${kitchenpos.order.events.heartbeat:15000}")
+    public void heartbeat() {
+        final long now = System.nanoTime();
+        for (final Subscriber subscriber : subscribers) {
+            if (subscriber.stalled(now)) {
+                drop(subscriber);
+                continue;
+            }
+            subscriber.heartbeat();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter().complete());
+        dispatchExecutor.shutdown();
+    }
+
+    private void replayTo(final Subscriber subscriber, final String lastEventId) {
+        final long lastSeenId = sequenceOf(lastEventId);
+        final long oldestId = replay.isEmpty() ? lastId + 1 : replay.peekFirst().id();
+        if (lastSeenId == NO_RESET || lastSeenId > lastId || lastSeenId < oldestId - 1) {
+            subscriber.reset(lastId);
+            return;
+        }
+        for (final Entry entry : replay) {
+            if (entry.id() > lastSeenId && subscriber.accepts(entry.event()) && !subscriber.offer(entry)) {
+                subscriber.reset(lastId);
+                return;
+            }
+        }
+    }
+
+    private long sequenceOf(final String eventId) {
+        final String prefix = bootId + "-";
+        if (!eventId.startsWith(prefix)) {
+            return NO_RESET;
+        }
+        try {
+            return Long.parseLong(eventId.substring(prefix.length()));
+        } catch (final NumberFormatException e) {
+            return NO_RESET;
+        }
+    }
+
+    private String eventId(final long id) {
+        return bootId + "-" + id;
+    }
+
+    private void drop(final Subscriber subscriber) {
+        subscribers.remove(subscriber);
+        dropped.increment();
+        subscriber.close();
+    }
+
+    private record Entry(long id, OrderStatusChangedEvent event) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final Set<OrderStatus> statuses;
+        private final Set<OrderType> types;
+        private final Queue<Entry> pending = new ArrayBlockingQueue<>(clientBufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicLong resetTo = new AtomicLong(NO_RESET);
+        private final AtomicBoolean heartbeatPending = new AtomicBoolean();
+        private final AtomicLong sendStartedAt = new AtomicLong(IDLE);
+        private final AtomicReference<Future<?>> sender = new AtomicReference<>();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(final SseEmitter emitter, final Set<OrderStatus> statuses, final Set<OrderType> types) {
+            this.emitter = emitter;
+            this.statuses = statuses;
+            this.types = types;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        boolean accepts(final OrderStatusChangedEvent event) {
+            return (statuses.isEmpty() || statuses.contains(event.status()))
+                && (types.isEmpty() || types.contains(event.type()));
+        }
+
+        boolean offer(final Entry entry) {
+            return pending.offer(entry);
+        }
+
+        void reset(final long id) {
+            pending.clear();
+            resetTo.set(id);
+        }
+
+        void heartbeat() {
+            heartbeatPending.set(true);
+            drain();
+        }
+
+        boolean stalled(final long now) {
+            final long startedAt = sendStartedAt.get();
+            return startedAt != IDLE && now - startedAt > sendTimeoutNanos;
+        }
+
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            pending.clear();
+            final Future<?> current = sender.get();
+            if (Objects.nonNull(current)) {
+                current.cancel(true);
+            }
+            dispatchExecutor.execute(emitter::complete);
+        }
+
+        void drain() {
+            if (!hasWork() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            final Future<?> submitted = dispatchExecutor.submit(() -> {
+                try {
+                    if (heartbeatPending.getAndSet(false)) {
+                        send(SseEmitter.event().comment("heartbeat"));
+                    }
+                    final long reset = resetTo.getAndSet(NO_RESET);
+                    if (reset != NO_RESET) {
+                        send(SseEmitter.event().id(eventId(reset)).name(RESET_EVENT_NAME).data(""));
+                    }
+                    Entry entry;
+                    while ((entry = pending.poll()) != null) {
+                        send(SseEmitter.event().id(eventId(entry.id())).name(EVENT_NAME).data(entry.event()));
+                    }
+                } finally {
+                    draining.set(false);
+                }
+                if (hasWork()) {
+                    drain();
+                }
+            });
+            sender.set(submitted);
+            if (closed.get()) {
+                submitted.cancel(true);
+            }
+        }
+
+        private boolean hasWork() {
+            return !closed.get() && (!pending.isEmpty() || resetTo.get() != NO_RESET || heartbeatPending.get());
+        }
+
+        private void send(final SseEmitter.SseEventBuilder event) {
+            sendStartedAt.set(System.nanoTime());
+            try {
+                emitter.send(event);
+            } catch (final IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            } finally {
+                sendStartedAt.set(IDLE);
+            }
+        }
+    }
+}
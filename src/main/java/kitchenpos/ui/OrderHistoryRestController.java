@@ -0,0 +1,37 @@
+package kitchenpos.ui;
+
+import kitchenpos.application.KeysetPage;
+import kitchenpos.application.OrderHistoryService;
+import kitchenpos.domain.ArchivedOrder;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequestMapping("/api/order-history")
+@RestController
+public class OrderHistoryRestController {
+    private final OrderHistoryService orderHistoryService;
+
+    public OrderHistoryRestController(final OrderHistoryService orderHistoryService) {
+        this.orderHistoryService = orderHistoryService;
+    }
+
+    @GetMapping("/{orderId}")
+    public ResponseEntity<ArchivedOrder> findById(@PathVariable final UUID orderId) {
+        return ResponseEntity.ok(orderHistoryService.findById(orderId));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ArchivedOrder>> findAll(
+        @RequestParam(required = false) final UUID cursor,
+        @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) final int size
+    ) {
+        return KeysetPageResponse.ok(orderHistoryService.findAll(cursor, size), size, ArchivedOrder::getId);
+    }
+}
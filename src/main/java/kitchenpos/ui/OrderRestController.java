@@ -1,27 +1,56 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.BulkOrderTransitionResult;
+import kitchenpos.application.KeysetPage;
+import kitchenpos.application.OrderExportFormat;
+import kitchenpos.application.OrderExportService;
 import kitchenpos.application.OrderService;
 import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderSearchCondition;
+import kitchenpos.domain.OrderSearchCursor;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderSummary;
+import kitchenpos.domain.OrderType;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @RequestMapping("/api/orders")
 @RestController
 public class OrderRestController {
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderEventStream orderEventStream;
 
-    public OrderRestController(final OrderService orderService) {
+    public OrderRestController(
+        final OrderService orderService,
+        final OrderExportService orderExportService,
+        final OrderEventStream orderEventStream
+    ) {
         this.orderService = orderService;
+        this.orderExportService = orderExportService;
+        this.orderEventStream = orderEventStream;
     }
 
     @PostMapping
@@ -36,28 +65,107 @@ public class OrderRestController {
         return ResponseEntity.ok(orderService.accept(orderId));
     }
 
+    @PutMapping("/bulk/accept")
+    public ResponseEntity<BulkOrderTransitionResult> acceptAll(@RequestBody final List<UUID> request) {
+        return ResponseEntity.ok(orderService.acceptAll(request));
+    }
+
     @PutMapping("/{orderId}/serve")
     public ResponseEntity<Order> serve(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.serve(orderId));
     }
 
+    @PutMapping("/bulk/serve")
+    public ResponseEntity<BulkOrderTransitionResult> serveAll(@RequestBody final List<UUID> request) {
+        return ResponseEntity.ok(orderService.serveAll(request));
+    }
+
     @PutMapping("/{orderId}/start-delivery")
     public ResponseEntity<Order> startDelivery(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.startDelivery(orderId));
     }
 
+    @PutMapping("/bulk/start-delivery")
+    public ResponseEntity<BulkOrderTransitionResult> startDeliveryAll(@RequestBody final List<UUID> request) {
+        return ResponseEntity.ok(orderService.startDeliveryAll(request));
+    }
+
     @PutMapping("/{orderId}/complete-delivery")
     public ResponseEntity<Order> completeDelivery(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.completeDelivery(orderId));
     }
 
+    @PutMapping("/bulk/complete-delivery")
+    public ResponseEntity<BulkOrderTransitionResult> completeDeliveryAll(@RequestBody final List<UUID> request) {
+        return ResponseEntity.ok(orderService.completeDeliveryAll(request));
+    }
+
     @PutMapping("/{orderId}/complete")
     public ResponseEntity<Order> complete(@PathVariable final UUID orderId) {
         return ResponseEntity.ok(orderService.complete(orderId));
     }
 
+    @PutMapping("/bulk/complete")
+    public ResponseEntity<BulkOrderTransitionResult> completeAll(@RequestBody final List<UUID> request) {
+        return ResponseEntity.ok(orderService.completeAll(request));
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleConflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
     @GetMapping
-    public ResponseEntity<List<Order>> findAll() {
-        return ResponseEntity.ok(orderService.findAll());
+    public ResponseEntity<List<Order>> findAll(
+        @RequestParam(required = false) final UUID cursor,
+        @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) final int size
+    ) {
+        return KeysetPageResponse.ok(orderService.findAll(cursor, size), size, Order::getId);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<OrderSummary>> search(
+        @RequestParam(required = false) final Set<OrderStatus> status,
+        @RequestParam(required = false) final OrderType type,
+        @RequestParam(required = false) final UUID orderTableId,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+        @RequestParam(required = false) final String cursor,
+        @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) final int size
+    ) {
+        final OrderSearchCondition condition = new OrderSearchCondition(status, type, orderTableId, from, to);
+        final OrderSearchCursor searchCursor = Objects.isNull(cursor) ? null : OrderSearchCursor.parse(cursor);
+        return KeysetPageResponse.ok(
+            orderService.search(condition, searchCursor, size),
+            size,
+            OrderSearchCursor::of
+        );
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime from,
+        @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final LocalDateTime to,
+        @RequestParam(defaultValue = "NDJSON") final OrderExportFormat format
+    ) {
+        if (!from.isBefore(to)) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(format.getMediaType()))
+            .body(output -> orderExportService.export(from, to, format, output));
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(
+        @RequestParam(required = false) final Set<OrderStatus> status,
+        @RequestParam(required = false) final Set<OrderType> type,
+        @RequestHeader(value = "Last-Event-ID", required = false) final String lastEventId
+    ) {
+        return orderEventStream.subscribe(
+            Objects.requireNonNullElse(status, Set.of()),
+            Objects.requireNonNullElse(type, Set.of()),
+            lastEventId
+        );
     }
 }
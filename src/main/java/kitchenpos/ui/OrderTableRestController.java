@@ -1,14 +1,19 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.KeysetPage;
 import kitchenpos.application.OrderTableService;
 import kitchenpos.domain.OrderTable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
@@ -49,8 +54,16 @@ public class OrderTableRestController {
         return ResponseEntity.ok(orderTableService.changeNumberOfGuests(orderTableId, request));
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> handleConflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
     @GetMapping
-    public ResponseEntity<List<OrderTable>> findAll() {
-        return ResponseEntity.ok(orderTableService.findAll());
+    public ResponseEntity<List<OrderTable>> findAll(
+        @RequestParam(required = false) final UUID cursor,
+        @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) final int size
+    ) {
+        return KeysetPageResponse.ok(orderTableService.findAll(cursor, size), size, OrderTable::getId);
     }
 }
@@ -1,7 +1,15 @@
 package kitchenpos.ui;
 
+import kitchenpos.application.KeysetPage;
+import kitchenpos.application.MenuRevalidationStatus;
+import kitchenpos.application.MenuRevalidationWorker;
+import kitchenpos.application.ProductImportResult;
+import kitchenpos.application.ProductImportService;
+import kitchenpos.application.ProductPriceChange;
+import kitchenpos.application.ProductRepriceResult;
 import kitchenpos.application.ProductService;
 import kitchenpos.domain.Product;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,8 +17,10 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
@@ -18,10 +28,20 @@ import java.util.UUID;
 @RequestMapping("/api/products")
 @RestController
 public class ProductRestController {
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
     private final ProductService productService;
+    private final ProductImportService productImportService;
+    private final MenuRevalidationWorker menuRevalidationWorker;
 
-    public ProductRestController(final ProductService productService) {
+    public ProductRestController(
+        final ProductService productService,
+        final ProductImportService productImportService,
+        final MenuRevalidationWorker menuRevalidationWorker
+    ) {
         this.productService = productService;
+        this.productImportService = productImportService;
+        this.menuRevalidationWorker = menuRevalidationWorker;
     }
 
     @PostMapping
@@ -31,13 +51,36 @@ public class ProductRestController {
             .body(response);
     }
 
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ProductImportResult> importJsonArray(final InputStream request) {
+        return ResponseEntity.ok(productImportService.importJsonArray(request));
+    }
+
+    @PostMapping(value = "/bulk", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ProductImportResult> importNdjson(final InputStream request) {
+        return ResponseEntity.ok(productImportService.importNdjson(request));
+    }
+
     @PutMapping("/{productId}/price")
     public ResponseEntity<Product> changePrice(@PathVariable final UUID productId, @RequestBody final Product request) {
         return ResponseEntity.ok(productService.changePrice(productId, request));
     }
 
+    @PutMapping("/prices")
+    public ResponseEntity<ProductRepriceResult> changePrices(@RequestBody final List<ProductPriceChange> request) {
+        return ResponseEntity.ok(productService.changePrices(request));
+    }
+
+    @GetMapping("/menu-revalidation")
+    public ResponseEntity<MenuRevalidationStatus> menuRevalidationStatus() {
+        return ResponseEntity.ok(menuRevalidationWorker.status());
+    }
+
     @GetMapping
-    public ResponseEntity<List<Product>> findAll() {
-        return ResponseEntity.ok(productService.findAll());
+    public ResponseEntity<List<Product>> findAll(
+        @RequestParam(required = false) final UUID cursor,
+        @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_SIZE) final int size
+    ) {
+        return KeysetPageResponse.ok(productService.findAll(cursor, size), size, Product::getId);
     }
 }
@@ -0,0 +1,23 @@
+create table orders_archive
+(
+    id               binary(16)   not null,
+    delivery_address varchar(255),
+    order_date_time  datetime(6)  not null,
+    status           varchar(255) not null,
+    type             varchar(255) not null,
+    order_table_id   binary(16),
+    archived_at      datetime(6)  not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table order_line_item_archive
+(
+    seq      bigint     not null,
+    quantity bigint     not null,
+    menu_id  binary(16) not null,
+    order_id binary(16) not null,
+    primary key (seq)
+) engine = InnoDB;
+
+create index ix_order_line_item_archive_order_id
+    on order_line_item_archive (order_id);
@@ -0,0 +1,2 @@
+create index ix_orders_type_status_order_date_time
+    on orders (type, status, order_date_time);
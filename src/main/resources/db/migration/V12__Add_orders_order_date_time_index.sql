@@ -0,0 +1,2 @@
+create index ix_orders_order_date_time_id
+    on orders (order_date_time, id);
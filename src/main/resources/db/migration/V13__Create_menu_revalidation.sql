@@ -0,0 +1,20 @@
+create table menu_revalidation
+(
+    seq             bigint      not null,
+    product_id      binary(16)  not null,
+    attempts        integer     not null,
+    enqueued_at     datetime(6) not null,
+    next_attempt_at datetime(6) not null,
+    primary key (seq)
+) engine = InnoDB;
+
+create index ix_menu_revalidation_next_attempt_at
+    on menu_revalidation (next_attempt_at);
+
+create table menu_revalidation_seq
+(
+    next_val bigint
+) engine = InnoDB;
+
+insert into menu_revalidation_seq
+values (1);
@@ -0,0 +1,9 @@
+create table menu_catalog_version
+(
+    id      integer not null,
+    version bigint  not null,
+    primary key (id)
+) engine = InnoDB;
+
+insert into menu_catalog_version
+values (1, 0);
@@ -0,0 +1,2 @@
+create index ix_orders_archive_order_date_time_id
+    on orders_archive (order_date_time, id);
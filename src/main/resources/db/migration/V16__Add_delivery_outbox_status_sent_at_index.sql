@@ -0,0 +1,2 @@
+create index ix_delivery_outbox_status_sent_at
+    on delivery_outbox (status, sent_at);
@@ -0,0 +1,23 @@
+alter table menu_product
+    modify seq bigint not null;
+
+alter table order_line_item
+    modify seq bigint not null;
+
+create table menu_product_seq
+(
+    next_val bigint
+) engine = InnoDB;
+
+insert into menu_product_seq
+select coalesce(max(seq), 0) + 1
+from menu_product;
+
+create table order_line_item_seq
+(
+    next_val bigint
+) engine = InnoDB;
+
+insert into order_line_item_seq
+select coalesce(max(seq), 0) + 1
+from order_line_item;
@@ -0,0 +1,29 @@
+create table delivery_outbox
+(
+    seq              bigint         not null,
+    idempotency_key  binary(16)     not null,
+    order_id         binary(16)     not null,
+    amount           decimal(19, 2) not null,
+    delivery_address varchar(255)   not null,
+    status           varchar(255)   not null,
+    attempts         integer        not null,
+    next_attempt_at  datetime(6)    not null,
+    created_at       datetime(6)    not null,
+    sent_at          datetime(6),
+    last_error       varchar(255),
+    primary key (seq)
+) engine = InnoDB;
+
+alter table delivery_outbox
+    add constraint uk_delivery_outbox_idempotency_key unique (idempotency_key);
+
+create index ix_delivery_outbox_status_next_attempt_at
+    on delivery_outbox (status, next_attempt_at);
+
+create table delivery_outbox_seq
+(
+    next_val bigint
+) engine = InnoDB;
+
+insert into delivery_outbox_seq
+values (1);
@@ -0,0 +1,2 @@
+alter table orders
+    add column version bigint not null default 0;
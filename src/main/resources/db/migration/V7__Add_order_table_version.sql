@@ -0,0 +1,2 @@
+alter table order_table
+    add column version bigint not null default 0;
@@ -0,0 +1,8 @@
+create index ix_orders_order_table_id_status
+    on orders (order_table_id, status);
+
+create index ix_orders_status_order_date_time
+    on orders (status, order_date_time);
+
+create index ix_menu_product_product_id_menu_id
+    on menu_product (product_id, menu_id);
@@ -0,0 +1,32 @@
+package kitchenpos;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+public class StatementRecorder implements StatementInspector {
+    private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+    public static List<String> record(final Callable<?> action) throws Exception {
+        final List<String> statements = new ArrayList<>();
+        RECORDED.set(statements);
+        try {
+            action.call();
+        } finally {
+            RECORDED.remove();
+        }
+        return statements;
+    }
+
+    @Override
+    public String inspect(final String sql) {
+        final List<String> statements = RECORDED.get();
+        if (Objects.nonNull(statements)) {
+            statements.add(sql);
+        }
+        return sql;
+    }
+}
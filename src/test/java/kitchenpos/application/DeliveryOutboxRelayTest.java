@@ -0,0 +1,237 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.DeliveryOutbox;
+import kitchenpos.domain.DeliveryOutboxRepository;
+import kitchenpos.domain.DeliveryOutboxStatus;
+import kitchenpos.domain.Money;
+import kitchenpos.infra.RecordingKitchenridersClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:delivery-outbox;DB_CLOSE_DELAY=-1",
+    "kitchenpos.delivery.outbox.interval=3600000",
+    "kitchenpos.delivery.outbox.purge-interval=3600000",
+    "kitchenpos.delivery.outbox.max-attempts=" + DeliveryOutboxRelayTest.MAX_ATTEMPTS,
+    "kitchenpos.delivery.outbox.retry-backoff=" + DeliveryOutboxRelayTest.RETRY_BACKOFF,
+    "kitchenpos.delivery.outbox.lease=60000",
+    "kitchenpos.delivery.outbox.retention-days=7"
+})
+@Import(DeliveryOutboxRelayTest.RiderStubConfiguration.class)
+class DeliveryOutboxRelayTest {
+    static final int MAX_ATTEMPTS = 3;
+    static final long RETRY_BACKOFF = 60_000L;
+
+    @Autowired
+    private DeliveryOutboxRelay deliveryOutboxRelay;
+
+    @Autowired
+    private DeliveryOutboxRepository deliveryOutboxRepository;
+
+    @Autowired
+    private RecordingKitchenridersClient kitchenridersClient;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        kitchenridersClient.reset();
+    }
+
+    @Test
+    void sendsAPendingRequestOnceAndMarksItSent() {
+        final DeliveryOutbox entry = pendingEntry();
+
+        deliveryOutboxRelay.relay();
+        deliveryOutboxRelay.relay();
+
+        final DeliveryOutbox sent = reload(entry);
+        assertThat(sent.getStatus()).isEqualTo(DeliveryOutboxStatus.SENT);
+        assertThat(sent.getAttempts()).isEqualTo(1);
+        assertThat(sent.getSentAt()).isNotNull();
+        assertThat(kitchenridersClient.requestsFor(entry.getOrderId()))
+            .singleElement()
+            .satisfies(request -> {
+                assertThat(request.idempotencyKey()).isEqualTo(entry.getIdempotencyKey());
+                assertThat(request.amount()).isEqualByComparingTo(entry.getAmount().toBigDecimal());
+                assertThat(request.deliveryAddress()).isEqualTo(entry.getDeliveryAddress());
+            });
+    }
+
+    @Test
+    void backsOffAfterAFailureAndRedeliversWithTheSameIdempotencyKey() {
+        final DeliveryOutbox entry = pendingEntry();
+        kitchenridersClient.failNext(1);
+
+        final LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        deliveryOutboxRelay.relay();
+        final LocalDateTime after = LocalDateTime.now();
+
+        final DeliveryOutbox retried = reload(entry);
+        assertThat(retried.getStatus()).isEqualTo(DeliveryOutboxStatus.PENDING);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getLastError()).isEqualTo("injected failure");
+        assertThat(retried.getNextAttemptAt())
+            .isBetween(before.plus(RETRY_BACKOFF, ChronoUnit.MILLIS), after.plus(RETRY_BACKOFF, ChronoUnit.MILLIS));
+
+        deliveryOutboxRelay.relay();
+        assertThat(kitchenridersClient.requestsFor(entry.getOrderId())).hasSize(1);
+
+        makeDue(entry);
+        deliveryOutboxRelay.relay();
+
+        final DeliveryOutbox sent = reload(entry);
+        assertThat(sent.getStatus()).isEqualTo(DeliveryOutboxStatus.SENT);
+        assertThat(sent.getAttempts()).isEqualTo(2);
+        assertThat(sent.getLastError()).isNull();
+        assertThat(kitchenridersClient.requestsFor(entry.getOrderId()))
+            .hasSize(2)
+            .allSatisfy(request -> assertThat(request.idempotencyKey()).isEqualTo(entry.getIdempotencyKey()));
+    }
+
+    @Test
+    void doublesTheBackoffAndGivesUpAfterMaxAttempts() {
+        final DeliveryOutbox entry = pendingEntry();
+        kitchenridersClient.failNext(MAX_ATTEMPTS);
+
+        for (int attempt = 1; attempt < MAX_ATTEMPTS; attempt++) {
+            final LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+            deliveryOutboxRelay.relay();
+            final DeliveryOutbox retried = reload(entry);
+            assertThat(retried.getStatus()).isEqualTo(DeliveryOutboxStatus.PENDING);
+            assertThat(retried.getAttempts()).isEqualTo(attempt);
+            assertThat(retried.getNextAttemptAt())
+                .isAfterOrEqualTo(before.plus(RETRY_BACKOFF << (attempt - 1), ChronoUnit.MILLIS));
+            makeDue(entry);
+        }
+        deliveryOutboxRelay.relay();
+
+        final DeliveryOutbox failed = reload(entry);
+        assertThat(failed.getStatus()).isEqualTo(DeliveryOutboxStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+
+        makeDue(entry);
+        deliveryOutboxRelay.relay();
+        assertThat(kitchenridersClient.requestsFor(entry.getOrderId())).hasSize(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void redeliversALeasedRequestOnlyAfterTheLeaseExpires() throws Exception {
+        final DeliveryOutbox entry = pendingEntry();
+        final CountDownLatch release = new CountDownLatch(1);
+        kitchenridersClient.holdNextUntil(release);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> stalled = executor.submit(deliveryOutboxRelay::relay);
+            awaitRequests(entry, 1);
+
+            deliveryOutboxRelay.relay();
+            assertThat(kitchenridersClient.requestsFor(entry.getOrderId())).hasSize(1);
+
+            makeDue(entry);
+            deliveryOutboxRelay.relay();
+            assertThat(kitchenridersClient.requestsFor(entry.getOrderId())).hasSize(2);
+
+            release.countDown();
+            stalled.get(10, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        assertThat(reload(entry).getStatus()).isEqualTo(DeliveryOutboxStatus.SENT);
+        assertThat(kitchenridersClient.requestsFor(entry.getOrderId()))
+            .extracting(RecordingKitchenridersClient.DeliveryRequest::idempotencyKey)
+            .containsOnly(entry.getIdempotencyKey());
+    }
+
+    @Test
+    void purgesOnlyRequestsSentBeforeTheRetentionPeriod() {
+        final DeliveryOutbox expired = sentEntry(LocalDateTime.now().minusDays(8));
+        final DeliveryOutbox retained = sentEntry(LocalDateTime.now().minusDays(1));
+        final DeliveryOutbox pending = pendingEntry();
+        transactionTemplate.executeWithoutResult(status -> deliveryOutboxRepository.findById(pending.getSeq())
+            .orElseThrow()
+            .setCreatedAt(LocalDateTime.now().minusDays(8))
+        );
+
+        deliveryOutboxRelay.purgeSent();
+
+        assertThat(deliveryOutboxRepository.existsById(expired.getSeq())).isFalse();
+        assertThat(deliveryOutboxRepository.existsById(retained.getSeq())).isTrue();
+        assertThat(deliveryOutboxRepository.existsById(pending.getSeq())).isTrue();
+    }
+
+    private DeliveryOutbox pendingEntry() {
+        final LocalDateTime now = LocalDateTime.now();
+        final DeliveryOutbox entry = new DeliveryOutbox();
+        entry.setIdempotencyKey(UUID.randomUUID());
+        entry.setOrderId(UUID.randomUUID());
+        entry.setAmount(Money.from(BigDecimal.valueOf(19_000)));
+        entry.setDeliveryAddress("서울시 송파구 위례성대로 2");
+        entry.setStatus(DeliveryOutboxStatus.PENDING);
+        entry.setNextAttemptAt(now);
+        entry.setCreatedAt(now);
+        return deliveryOutboxRepository.save(entry);
+    }
+
+    private DeliveryOutbox sentEntry(final LocalDateTime sentAt) {
+        final DeliveryOutbox entry = pendingEntry();
+        return transactionTemplate.execute(status -> {
+            final DeliveryOutbox sent = deliveryOutboxRepository.findById(entry.getSeq()).orElseThrow();
+            sent.setStatus(DeliveryOutboxStatus.SENT);
+            sent.setAttempts(1);
+            sent.setSentAt(sentAt);
+            return sent;
+        });
+    }
+
+    private DeliveryOutbox reload(final DeliveryOutbox entry) {
+        return deliveryOutboxRepository.findById(entry.getSeq()).orElseThrow();
+    }
+
+    private void makeDue(final DeliveryOutbox entry) {
+        transactionTemplate.executeWithoutResult(status -> deliveryOutboxRepository.findById(entry.getSeq())
+            .orElseThrow()
+            .setNextAttemptAt(LocalDateTime.now().minusSeconds(1))
+        );
+    }
+
+    private void awaitRequests(final DeliveryOutbox entry, final int count) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (kitchenridersClient.requestsFor(entry.getOrderId()).size() < count) {
+            assertThat(System.nanoTime() - deadline).isNegative();
+            Thread.sleep(10);
+        }
+    }
+
+    @TestConfiguration
+    static class RiderStubConfiguration {
+        @Primary
+        @Bean
+        RecordingKitchenridersClient recordingKitchenridersClient() {
+            return new RecordingKitchenridersClient();
+        }
+    }
+}
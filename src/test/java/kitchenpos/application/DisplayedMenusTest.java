@@ -0,0 +1,89 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuCatalogVersionRepository;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.MenuRepository;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DisplayedMenusTest {
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private MenuCatalogVersionRepository menuCatalogVersionRepository;
+
+    @Autowired
+    private MenuCatalog menuCatalog;
+
+    @Autowired
+    private DisplayedMenus displayedMenus;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rerendersTheDocumentWhenAnotherNodeBumpsTheCatalogVersion() {
+        final UUID menuId = displayedMenu().getId();
+        final DisplayedMenus.Document before = displayedMenus.document();
+        final String renamed = "remote-" + UUID.randomUUID();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+            menuRepository.findById(menuId).orElseThrow().setName(renamed)
+        );
+        assertThat(displayedMenus.document()).isSameAs(before);
+
+        menuCatalogVersionRepository.increment();
+        menuCatalog.refreshIfStale();
+
+        final DisplayedMenus.Document after = displayedMenus.document();
+        assertThat(after.catalogVersion()).isGreaterThan(before.catalogVersion());
+        assertThat(after.etag()).isNotEqualTo(before.etag());
+        assertThat(new String(after.json(), StandardCharsets.UTF_8)).contains(renamed);
+    }
+
+    private Menu displayedMenu() {
+        final MenuGroup menuGroupRequest = new MenuGroup();
+        menuGroupRequest.setName("두마리메뉴");
+        final MenuGroup menuGroup = menuGroupService.create(menuGroupRequest);
+
+        final Product productRequest = new Product();
+        productRequest.setName("후라이드");
+        productRequest.setPrice(Money.from(BigDecimal.valueOf(16_000)));
+        final Product product = productService.create(productRequest);
+
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(product.getId());
+        menuProduct.setQuantity(2);
+        final Menu menuRequest = new Menu();
+        menuRequest.setName("후라이드+후라이드");
+        menuRequest.setPrice(Money.from(BigDecimal.valueOf(19_000)));
+        menuRequest.setMenuGroupId(menuGroup.getId());
+        menuRequest.setDisplayed(true);
+        menuRequest.setMenuProducts(List.of(menuProduct));
+        return menuService.create(menuRequest);
+    }
+}
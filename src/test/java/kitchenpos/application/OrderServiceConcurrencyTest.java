@@ -0,0 +1,163 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderRepository;
+import kitchenpos.domain.OrderStatus;
+import kitchenpos.domain.OrderType;
+import kitchenpos.domain.Product;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderServiceConcurrencyTest {
+    private static final int CONTENDERS = 16;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    void concurrentTransitionsOfTheSameOrderApplyExactlyOnce() throws Exception {
+        final UUID orderId = orderService.create(takeoutOrder(displayedMenu())).getId();
+        orderService.accept(orderId);
+
+        final AtomicInteger served = new AtomicInteger();
+        final AtomicInteger conflicted = new AtomicInteger();
+        final AtomicInteger rejected = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < CONTENDERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        orderService.serve(orderId);
+                        served.incrementAndGet();
+                    } catch (final OptimisticLockingFailureException e) {
+                        conflicted.incrementAndGet();
+                    } catch (final IllegalStateException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        final Order order = orderRepository.findById(orderId).orElseThrow();
+        assertThat(served.get()).isEqualTo(1);
+        assertThat(conflicted.get() + rejected.get()).isEqualTo(CONTENDERS - 1);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.SERVED);
+        assertThat(order.getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void bulkTransitionReportsAConflictingOrderInsteadOfFailing() throws Exception {
+        final Menu menu = displayedMenu();
+        final UUID contendedId = orderService.create(takeoutOrder(menu)).getId();
+        final UUID uncontendedId = orderService.create(takeoutOrder(menu)).getId();
+        orderService.acceptAll(List.of(contendedId, uncontendedId));
+
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+        final BulkOrderTransitionResult result;
+        try {
+            for (int i = 1; i < CONTENDERS; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    try {
+                        orderService.serve(contendedId);
+                    } catch (final OptimisticLockingFailureException | IllegalStateException ignored) {
+                    }
+                    return null;
+                });
+            }
+            final Future<BulkOrderTransitionResult> bulk = executor.submit(() -> {
+                start.await();
+                return orderService.serveAll(List.of(contendedId, uncontendedId));
+            });
+            start.countDown();
+            result = bulk.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(result.transitioned()).extracting(Order::getId).contains(uncontendedId);
+        assertThat(result.transitioned().size() + result.failures().size()).isEqualTo(2);
+        assertThat(result.failures()).allSatisfy(failure -> {
+            assertThat(failure.orderId()).isEqualTo(contendedId);
+            assertThat(failure.reason()).isIn("conflict", "illegal status");
+        });
+        assertThat(orderRepository.findById(contendedId).orElseThrow().getStatus()).isEqualTo(OrderStatus.SERVED);
+        assertThat(orderRepository.findById(uncontendedId).orElseThrow().getStatus()).isEqualTo(OrderStatus.SERVED);
+    }
+
+    private Menu displayedMenu() {
+        final MenuGroup menuGroupRequest = new MenuGroup();
+        menuGroupRequest.setName("두마리메뉴");
+        final MenuGroup menuGroup = menuGroupService.create(menuGroupRequest);
+
+        final Product productRequest = new Product();
+        productRequest.setName("후라이드");
+        productRequest.setPrice(Money.from(BigDecimal.valueOf(16_000)));
+        final Product product = productService.create(productRequest);
+
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(product.getId());
+        menuProduct.setQuantity(2);
+        final Menu menuRequest = new Menu();
+        menuRequest.setName("후라이드+후라이드");
+        menuRequest.setPrice(Money.from(BigDecimal.valueOf(19_000)));
+        menuRequest.setMenuGroupId(menuGroup.getId());
+        menuRequest.setDisplayed(true);
+        menuRequest.setMenuProducts(List.of(menuProduct));
+        return menuService.create(menuRequest);
+    }
+
+    private static Order takeoutOrder(final Menu menu) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menu.getId());
+        orderLineItem.setPrice(menu.getPrice());
+        orderLineItem.setQuantity(1);
+        final Order request = new Order();
+        request.setType(OrderType.TAKEOUT);
+        request.setOrderLineItems(List.of(orderLineItem));
+        return request;
+    }
+}
@@ -0,0 +1,132 @@
+package kitchenpos.application;
+
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderTableRepository;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OrderTableServiceConcurrencyTest {
+    private static final Logger log = LoggerFactory.getLogger(OrderTableServiceConcurrencyTest.class);
+    private static final int THREADS = 8;
+    private static final int OPERATIONS_PER_THREAD = 50;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Test
+    void operationsOnTheSameTableAreSerialized() throws Exception {
+        final UUID orderTableId = occupiedTable();
+        final long initialVersion = versionOf(orderTableId);
+
+        final Result result = run(thread -> orderTableId);
+
+        log.info("same table: {}", result);
+        assertThat(result.succeeded()).isEqualTo(THREADS * OPERATIONS_PER_THREAD);
+        assertThat(versionOf(orderTableId)).isEqualTo(initialVersion + result.succeeded());
+    }
+
+    @Test
+    void operationsOnDifferentTablesDoNotConflict() throws Exception {
+        final List<UUID> orderTableIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            orderTableIds.add(occupiedTable());
+        }
+
+        final Result result = run(orderTableIds::get);
+
+        log.info("different tables: {}", result);
+        assertThat(result.succeeded()).isEqualTo(THREADS * OPERATIONS_PER_THREAD);
+        assertThat(result.conflicts()).isZero();
+    }
+
+    private Result run(final IntFunction<UUID> tableOfThread) throws Exception {
+        final AtomicInteger succeeded = new AtomicInteger();
+        final AtomicInteger conflicts = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                final int threadIndex = thread;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        final OrderTable request = new OrderTable();
+                        request.setNumberOfGuests(threadIndex * OPERATIONS_PER_THREAD + i + 1);
+                        while (true) {
+                            try {
+                                orderTableService.changeNumberOfGuests(tableOfThread.apply(threadIndex), request);
+                                succeeded.incrementAndGet();
+                                break;
+                            } catch (final OptimisticLockingFailureException e) {
+                                conflicts.incrementAndGet();
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            final long startedAt = System.nanoTime();
+            start.countDown();
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            final long elapsedNanos = System.nanoTime() - startedAt;
+            return new Result(succeeded.get(), conflicts.get(), elapsedNanos);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private UUID occupiedTable() {
+        final OrderTable request = new OrderTable();
+        request.setName("9번");
+        final UUID orderTableId = orderTableService.create(request).getId();
+        orderTableService.sit(orderTableId);
+        return orderTableId;
+    }
+
+    private long versionOf(final UUID orderTableId) {
+        return orderTableRepository.findById(orderTableId)
+            .orElseThrow()
+            .getVersion();
+    }
+
+    private record Result(int succeeded, int conflicts, long elapsedNanos) {
+        double throughput() {
+            return succeeded * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(
+                "%d operations, %d conflicts, %.1f ms, %.1f ops/s",
+                succeeded,
+                conflicts,
+                elapsedNanos / 1_000_000.0,
+                throughput()
+            );
+        }
+    }
+}
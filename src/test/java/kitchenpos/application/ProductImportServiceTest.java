@@ -0,0 +1,129 @@
+package kitchenpos.application;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:product-import;DB_CLOSE_DELAY=-1",
+    "kitchenpos.product.import.chunk-size=" + ProductImportServiceTest.CHUNK_SIZE
+})
+class ProductImportServiceTest {
+    static final int CHUNK_SIZE = 4;
+    private static final String REJECTED_BY_DATABASE = "rejected by database";
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void importsValidRowsOfAJsonArrayAndReportsTheRest() {
+        final ProductImportResult result = productImportService.importJsonArray(input("""
+            [
+              {"name": "후라이드", "price": 16000},
+              {"name": "양념치킨", "price": "17000"},
+              {"name": "간장치킨", "price": -1},
+              {"price": 16000},
+              42,
+              {"name": "bullshit chicken", "price": 16000},
+              {"name": "%s", "price": 1000},
+              {"name": "반반치킨", "price": 17000}
+            ]
+            """.formatted("치".repeat(256))));
+
+        assertThat(result.total()).isEqualTo(8);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.failures()).containsExactlyInAnyOrder(
+            new ProductImportResult.Failure(3, "간장치킨", "invalid price"),
+            new ProductImportResult.Failure(4, null, "invalid name"),
+            new ProductImportResult.Failure(5, null, "malformed product"),
+            new ProductImportResult.Failure(6, "bullshit chicken", "profanity"),
+            new ProductImportResult.Failure(7, null, "invalid name")
+        );
+        assertThat(productNames()).contains("후라이드", "양념치킨", "반반치킨")
+            .doesNotContain("간장치킨", "bullshit chicken");
+    }
+
+    @Test
+    void importsValidLinesOfNdjsonAndReportsTheRest() {
+        final ProductImportResult result = productImportService.importNdjson(input("""
+            {"name": "크림치킨", "price": 18000}
+
+            {"name": "치즈치킨", "price":
+            42
+            {"name": "마늘치킨", "price": 18000}
+            """));
+
+        assertThat(result.total()).isEqualTo(4);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.failures()).containsExactly(
+            new ProductImportResult.Failure(2, null, "malformed json"),
+            new ProductImportResult.Failure(3, null, "malformed product")
+        );
+        assertThat(productNames()).contains("크림치킨", "마늘치킨")
+            .doesNotContain("치즈치킨");
+    }
+
+    @Test
+    void keepsTheRowsBeforeATruncatedJsonArray() {
+        final ProductImportResult result = productImportService.importJsonArray(input("""
+            [{"name": "파닭", "price": 16000}, {"name": "닭강정", "pri"""));
+
+        assertThat(result.total()).isEqualTo(2);
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.failures()).containsExactly(new ProductImportResult.Failure(2, null, "malformed json"));
+        assertThat(productNames()).contains("파닭");
+    }
+
+    @Test
+    void rejectsAJsonDocumentThatIsNotAnArray() {
+        assertThatThrownBy(() -> productImportService.importJsonArray(input("{\"name\": \"치킨\", \"price\": 16000}")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void fallsBackToRowByRowInsertsWhenABatchFails() {
+        jdbcTemplate.execute(
+            "alter table product add constraint ck_product_import_test check (name <> '" + REJECTED_BY_DATABASE + "')"
+        );
+        final ProductImportResult result;
+        try {
+            result = productImportService.importJsonArray(input("""
+                [
+                  {"name": "고추치킨", "price": 16000},
+                  {"name": "%s", "price": 16000},
+                  {"name": "파채치킨", "price": 17000},
+                  {"name": "어니언치킨", "price": 17000}
+                ]
+                """.formatted(REJECTED_BY_DATABASE)));
+        } finally {
+            jdbcTemplate.execute("alter table product drop constraint ck_product_import_test");
+        }
+
+        assertThat(result.total()).isEqualTo(CHUNK_SIZE);
+        assertThat(result.imported()).isEqualTo(CHUNK_SIZE - 1);
+        assertThat(result.failures())
+            .containsExactly(new ProductImportResult.Failure(2, REJECTED_BY_DATABASE, "insert failed"));
+        assertThat(productNames()).containsOnlyOnce("고추치킨", "파채치킨", "어니언치킨")
+            .doesNotContain(REJECTED_BY_DATABASE);
+    }
+
+    private List<String> productNames() {
+        return jdbcTemplate.queryForList("select name from product", String.class);
+    }
+
+    private static InputStream input(final String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
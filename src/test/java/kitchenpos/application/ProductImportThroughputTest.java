@@ -0,0 +1,44 @@
+package kitchenpos.application;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("throughput")
+@SpringBootTest
+class ProductImportThroughputTest {
+    private static final int ROWS = 100_000;
+
+    @Autowired
+    private ProductImportService productImportService;
+
+    @Test
+    void importsOneHundredThousandNdjsonRows() {
+        final StringBuilder content = new StringBuilder(ROWS * 48);
+        for (int i = 0; i < ROWS; i++) {
+            content.append("{\"name\": \"상품 ").append(i).append("\", \"price\": 16000}\n");
+        }
+        final byte[] input = content.toString().getBytes(StandardCharsets.UTF_8);
+
+        final long startedAt = System.nanoTime();
+        final ProductImportResult result = productImportService.importNdjson(new ByteArrayInputStream(input));
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        System.out.printf(
+            "Imported %d of %d products in %d ms (%.0f rows/s)%n",
+            result.imported(),
+            result.total(),
+            elapsedMillis,
+            result.imported() * 1_000.0 / Math.max(elapsedMillis, 1)
+        );
+        assertThat(result.total()).isEqualTo(ROWS);
+        assertThat(result.imported()).isEqualTo(ROWS);
+    }
+}
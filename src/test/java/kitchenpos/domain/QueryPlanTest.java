@@ -0,0 +1,363 @@
+package kitchenpos.domain;
+
+import jakarta.persistence.EntityManagerFactory;
+import kitchenpos.StatementRecorder;
+import kitchenpos.application.OrderArchiver;
+import kitchenpos.infra.UuidBytes;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest
+class QueryPlanTest {
+    private static final String PREFIX = "plan-";
+    private static final int PRODUCTS = 2_000;
+    private static final int MENUS = 2_000;
+    private static final int ORDER_TABLES = 200;
+    private static final int ORDERS = 50_000;
+    private static final int DELIVERY_OUTBOX = 20_000;
+    private static final String[] ORDER_STATUSES = {"WAITING", "ACCEPTED", "SERVED", "COMPLETED"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Autowired
+    private OrderTableRepository orderTableRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MenuRepository menuRepository;
+
+    @Autowired
+    private DeliveryOutboxRepository deliveryOutboxRepository;
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+
+    private final List<UUID> products = new ArrayList<>();
+    private final List<UUID> menus = new ArrayList<>();
+    private final List<UUID> orderTables = new ArrayList<>();
+    private final List<UUID> orders = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() {
+        applyIndexMigrations();
+        seed();
+        jdbcTemplate.execute("analyze");
+    }
+
+    @AfterAll
+    void tearDown() {
+        jdbcTemplate.update("delete from delivery_outbox where delivery_address = ?", PREFIX);
+        jdbcTemplate.update(
+            "delete from orders where order_table_id in (select id from order_table where name like ?)",
+            PREFIX + "%"
+        );
+        jdbcTemplate.update("delete from order_table where name like ?", PREFIX + "%");
+        jdbcTemplate.update(
+            "delete from menu_product where menu_id in (select id from menu where name like ?)",
+            PREFIX + "%"
+        );
+        jdbcTemplate.update("delete from menu where name like ?", PREFIX + "%");
+        jdbcTemplate.update("delete from product where name like ?", PREFIX + "%");
+        jdbcTemplate.update("delete from menu_group where name like ?", PREFIX + "%");
+    }
+
+    Stream<Arguments> queries() {
+        final Pageable page = PageRequest.ofSize(100);
+        final LocalDateTime now = LocalDateTime.now();
+        return Stream.of(
+            Arguments.of(
+                "OrderRepository.findAllByOrderByIdAsc",
+                query(() -> orderRepository.findAllByOrderByIdAsc(page))
+            ),
+            Arguments.of(
+                "OrderRepository.findAllByIdGreaterThanOrderByIdAsc",
+                query(() -> orderRepository.findAllByIdGreaterThanOrderByIdAsc(orders.get(ORDERS / 2), page))
+            ),
+            Arguments.of(
+                "OrderRepository.findAllByIdIn",
+                query(() -> orderRepository.findAllByIdIn(List.of(orders.get(1), orders.get(2))))
+            ),
+            Arguments.of(
+                "OrderRepository.countOpenOrdersByOrderTableIdIn",
+                query(() -> orderRepository.countOpenOrdersByOrderTableIdIn(List.of(orderTables.get(1), orderTables.get(2))))
+            ),
+            Arguments.of(
+                "OrderRepository.search by type and statuses",
+                query(() -> orderRepository.search(
+                    new OrderSearchCondition(Set.of(OrderStatus.WAITING, OrderStatus.ACCEPTED), OrderType.TAKEOUT, null, null, null),
+                    null,
+                    page
+                ))
+            ),
+            Arguments.of(
+                "OrderRepository.search by order table",
+                query(() -> orderRepository.search(
+                    new OrderSearchCondition(Set.of(OrderStatus.WAITING, OrderStatus.ACCEPTED), null, orderTables.get(1), null, null),
+                    null,
+                    page
+                ))
+            ),
+            Arguments.of(
+                "OrderRepository.search after a cursor",
+                query(() -> orderRepository.search(
+                    new OrderSearchCondition(null, null, null, now.minusDays(1), now),
+                    new OrderSearchCursor(now.minusHours(1), orders.get(1)),
+                    page
+                ))
+            ),
+            Arguments.of(
+                "OrderRepository.streamExportRows",
+                query(() -> {
+                    try (Stream<OrderExportRow> rows = orderRepository.streamExportRows(now.minusDays(1), now)) {
+                        return rows.findFirst();
+                    }
+                })
+            ),
+            Arguments.of(
+                "ArchivedOrderRepository.streamExportRows",
+                query(() -> {
+                    try (Stream<OrderExportRow> rows = archivedOrderRepository.streamExportRows(now.minusDays(1), now)) {
+                        return rows.findFirst();
+                    }
+                })
+            ),
+            Arguments.of(
+                "OrderTableRepository.findAllByIdGreaterThanOrderByIdAsc",
+                query(() -> orderTableRepository.findAllByIdGreaterThanOrderByIdAsc(orderTables.get(1), page))
+            ),
+            Arguments.of(
+                "ProductRepository.findAllForShareByIdIn",
+                query(() -> productRepository.findAllForShareByIdIn(List.of(products.get(1), products.get(2))))
+            ),
+            Arguments.of(
+                "MenuRepository.findAllForUpdateByIdIn",
+                query(() -> menuRepository.findAllForUpdateByIdIn(List.of(menus.get(1), menus.get(2))))
+            ),
+            Arguments.of(
+                "MenuRepository.findAllIdsByProductIdIn",
+                query(() -> menuRepository.findAllIdsByProductIdIn(List.of(products.get(1), products.get(2))))
+            ),
+            Arguments.of(
+                "DeliveryOutboxRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc",
+                query(() -> deliveryOutboxRepository.findAllByStatusAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                    DeliveryOutboxStatus.PENDING,
+                    now,
+                    page
+                ))
+            ),
+            Arguments.of(
+                "DeliveryOutboxRepository.findAllSeqsByStatusAndSentAtBefore",
+                query(() -> deliveryOutboxRepository.findAllSeqsByStatusAndSentAtBefore(
+                    DeliveryOutboxStatus.SENT,
+                    now.minusDays(7),
+                    page
+                ))
+            )
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void doesNotScanWholeTable(final String query, final Supplier<?> repositoryCall) throws Exception {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        final List<String> statements = StatementRecorder.record(() -> transactionTemplate.execute(status -> repositoryCall.get()));
+
+        assertThat(statements).isNotEmpty();
+        final String plan = explain(statements.get(0));
+        assertThat(plan).as(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    void archivableOrderSelectionDoesNotScanWholeTable() {
+        jdbcTemplate.execute("set query_statistics true");
+        try {
+            orderArchiver.archive();
+            final String sql = jdbcTemplate.queryForObject(
+                "select sql_statement from information_schema.query_statistics"
+                    + " where lower(sql_statement) like 'select id from orders%skip locked'",
+                String.class
+            );
+
+            final String plan = explain(sql);
+            assertThat(plan).as(plan).doesNotContainIgnoringCase("tableScan");
+        } finally {
+            jdbcTemplate.execute("set query_statistics false");
+        }
+    }
+
+    private static Supplier<?> query(final Supplier<?> repositoryCall) {
+        return repositoryCall;
+    }
+
+    private String explain(final String sql) {
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("explain " + sql)) {
+                final int parameters = statement.getParameterMetaData().getParameterCount();
+                for (int i = 1; i <= parameters; i++) {
+                    statement.setObject(i, null);
+                }
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    private void applyIndexMigrations() {
+        try {
+            for (final Resource migration : new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql")) {
+                final List<String> statements = new ArrayList<>();
+                ScriptUtils.splitSqlScript(
+                    migration.getContentAsString(StandardCharsets.UTF_8),
+                    ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+                    statements
+                );
+                statements.stream()
+                    .filter(statement -> statement.strip().toLowerCase(Locale.ROOT).startsWith("create index"))
+                    .forEach(jdbcTemplate::execute);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void seed() {
+        final Random random = new Random(42);
+        final UUID menuGroup = UUID.randomUUID();
+        jdbcTemplate.update("insert into menu_group (id, name) values (?, ?)", UuidBytes.toBytes(menuGroup), PREFIX + "group");
+
+        final List<Object[]> productRows = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            final UUID id = UUID.randomUUID();
+            products.add(id);
+            productRows.add(new Object[]{UuidBytes.toBytes(id), PREFIX + i, 1_000 + random.nextInt(20_000)});
+        }
+        jdbcTemplate.batchUpdate("insert into product (id, name, price) values (?, ?, ?)", productRows);
+
+        final List<Object[]> menuRows = new ArrayList<>();
+        final List<Object[]> menuProductRows = new ArrayList<>();
+        long seq = 1_000_000;
+        for (int i = 0; i < MENUS; i++) {
+            final UUID id = UUID.randomUUID();
+            menus.add(id);
+            menuRows.add(new Object[]{UuidBytes.toBytes(id), true, PREFIX + i, 10_000, 20_000, UuidBytes.toBytes(menuGroup)});
+            for (int j = 0; j < 2; j++) {
+                final UUID product = products.get(random.nextInt(PRODUCTS));
+                menuProductRows.add(new Object[]{seq++, 1, UuidBytes.toBytes(product), UuidBytes.toBytes(id)});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+            "insert into menu (id, displayed, name, price, component_price_sum, menu_group_id) values (?, ?, ?, ?, ?, ?)",
+            menuRows
+        );
+        jdbcTemplate.batchUpdate(
+            "insert into menu_product (seq, quantity, product_id, menu_id) values (?, ?, ?, ?)",
+            menuProductRows
+        );
+
+        final List<Object[]> orderTableRows = new ArrayList<>();
+        for (int i = 0; i < ORDER_TABLES; i++) {
+            final UUID id = UUID.randomUUID();
+            orderTables.add(id);
+            orderTableRows.add(new Object[]{UuidBytes.toBytes(id), PREFIX + i, 0, false, 0, 0});
+        }
+        jdbcTemplate.batchUpdate(
+            "insert into order_table (id, name, number_of_guests, occupied, open_order_count, version) values (?, ?, ?, ?, ?, ?)",
+            orderTableRows
+        );
+
+        final List<Object[]> orderRows = new ArrayList<>();
+        final LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < ORDERS; i++) {
+            final UUID id = UUID.randomUUID();
+            orders.add(id);
+            final String status = random.nextInt(10) == 0
+                ? ORDER_STATUSES[random.nextInt(ORDER_STATUSES.length)]
+                : "COMPLETED";
+            orderRows.add(new Object[]{
+                UuidBytes.toBytes(id),
+                "EAT_IN",
+                status,
+                Timestamp.valueOf(now.minusSeconds(i)),
+                UuidBytes.toBytes(orderTables.get(random.nextInt(ORDER_TABLES))),
+                0
+            });
+        }
+        jdbcTemplate.batchUpdate(
+            "insert into orders (id, type, status, order_date_time, order_table_id, version) values (?, ?, ?, ?, ?, ?)",
+            orderRows
+        );
+
+        final List<Object[]> outboxRows = new ArrayList<>();
+        for (int i = 0; i < DELIVERY_OUTBOX; i++) {
+            final String status = random.nextInt(100) == 0 ? "PENDING" : "SENT";
+            outboxRows.add(new Object[]{
+                1_000_000L + i,
+                UuidBytes.toBytes(UUID.randomUUID()),
+                UuidBytes.toBytes(orders.get(i)),
+                16_000,
+                PREFIX,
+                status,
+                1,
+                Timestamp.valueOf(now.minusSeconds(i)),
+                Timestamp.valueOf(now.minusSeconds(i))
+            });
+        }
+        jdbcTemplate.batchUpdate(
+            "insert into delivery_outbox (seq, idempotency_key, order_id, amount, delivery_address, status, attempts,"
+                + " next_attempt_at, created_at) values (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            outboxRows
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package kitchenpos.infra;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfanityMatcherTest {
+    private final ProfanityMatcher matcher = new ProfanityMatcher(List.of("ass", "tits", "shit", "son of a bitch"));
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "Sh1t Chicken|shit chicken",
+        "$h!t|shit",
+        "shit!|'shit '",
+        "a55-burger|ass burger",
+        "Combo 455|'combo '",
+        "7175|' '",
+        "Set 1+1|'set '",
+        "치킨 2마리|치킨 마리",
+    })
+    void normalize(final String text, final String expected) {
+        assertThat(ProfanityMatcher.normalize(text)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"shit", "Sh1t chicken", "chicken $h!t", "@ss burger", "SON-OF-A-B1TCH wings", "t1ts"})
+    void matchesLeetspeakAndPunctuation(final String text) {
+        assertThat(matcher.matches(text)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"Combo 455", "7175", "Combo 455 set 7175", "Classic burger", "Bass", "titsa", "후라이드치킨", ""})
+    void doesNotMatchNumbersOrWordsContainingAProfanity(final String text) {
+        assertThat(matcher.matches(text)).isFalse();
+    }
+
+    @Test
+    void followsFailureLinksAcrossPartialMatches() {
+        final ProfanityMatcher phrases = new ProfanityMatcher(List.of("a x", "b c", "abcd", "bcd e"));
+
+        assertThat(phrases.matches("a b c")).isTrue();
+        assertThat(phrases.matches("abcd")).isTrue();
+        assertThat(phrases.matches("zbcd e")).isFalse();
+        assertThat(phrases.matches("abc bcd e")).isTrue();
+    }
+
+    @Test
+    void ignoresDuplicateAndBlankWords() {
+        final ProfanityMatcher deduplicated = new ProfanityMatcher(List.of("Ass", "a55", "ASS", " ", "!!"));
+
+        assertThat(deduplicated.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,59 @@
+package kitchenpos.infra;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProfanityVerdictCacheTest {
+    private static final int CALLERS = 16;
+
+    private final ProfanityVerdictCache cache = new ProfanityVerdictCache(1_000, 600_000, new SimpleMeterRegistry());
+
+    @Test
+    void loadsAVerdictOnceForConcurrentMissesOfTheSameName() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            final List<Future<Boolean>> verdicts = new ArrayList<>();
+            for (int i = 0; i < CALLERS; i++) {
+                final String name = i % 2 == 0 ? "Spicy  Chicken" : " spicy chicken ";
+                verdicts.add(executor.submit(() -> {
+                    start.await();
+                    return cache.get(name, text -> {
+                        loads.incrementAndGet();
+                        sleep();
+                        return false;
+                    });
+                }));
+            }
+            start.countDown();
+            for (final Future<Boolean> verdict : verdicts) {
+                assertThat(verdict.get()).isFalse();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.missCount() + cache.hitCount()).isEqualTo(CALLERS);
+        assertThat(cache.get("spicy chicken", text -> true)).isFalse();
+    }
+
+    private static void sleep() {
+        try {
+            Thread.sleep(50);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package kitchenpos.infra;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class RecordingKitchenridersClient extends KitchenridersClient {
+    private final List<DeliveryRequest> requests = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresToInject = new AtomicInteger();
+    private final AtomicReference<CountDownLatch> nextHold = new AtomicReference<>();
+
+    @Override
+    public void requestDelivery(
+        final UUID idempotencyKey,
+        final UUID orderId,
+        final BigDecimal amount,
+        final String deliveryAddress
+    ) {
+        requests.add(new DeliveryRequest(idempotencyKey, orderId, amount, deliveryAddress));
+        final CountDownLatch hold = nextHold.getAndSet(null);
+        if (Objects.nonNull(hold)) {
+            await(hold);
+        }
+        if (failuresToInject.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+            throw new IllegalStateException("injected failure");
+        }
+    }
+
+    public void failNext(final int times) {
+        failuresToInject.set(times);
+    }
+
+    public void holdNextUntil(final CountDownLatch release) {
+        nextHold.set(release);
+    }
+
+    public List<DeliveryRequest> requestsFor(final UUID orderId) {
+        return requests.stream()
+            .filter(request -> request.orderId().equals(orderId))
+            .toList();
+    }
+
+    public void reset() {
+        requests.clear();
+        failuresToInject.set(0);
+        nextHold.set(null);
+    }
+
+    private static void await(final CountDownLatch hold) {
+        try {
+            hold.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record DeliveryRequest(UUID idempotencyKey, UUID orderId, BigDecimal amount, String deliveryAddress) {
+    }
+}
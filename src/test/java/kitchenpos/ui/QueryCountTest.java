@@ -0,0 +1,185 @@
+package kitchenpos.ui;
+
+import jakarta.persistence.EntityManagerFactory;
+import kitchenpos.StatementRecorder;
+import kitchenpos.application.MenuGroupService;
+import kitchenpos.application.MenuService;
+import kitchenpos.application.OrderService;
+import kitchenpos.application.OrderTableService;
+import kitchenpos.application.ProductService;
+import kitchenpos.domain.Menu;
+import kitchenpos.domain.MenuGroup;
+import kitchenpos.domain.MenuProduct;
+import kitchenpos.domain.Money;
+import kitchenpos.domain.Order;
+import kitchenpos.domain.OrderLineItem;
+import kitchenpos.domain.OrderTable;
+import kitchenpos.domain.OrderType;
+import kitchenpos.domain.Product;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:query-count;DB_CLOSE_DELAY=-1")
+@AutoConfigureMockMvc
+class QueryCountTest {
+    private static final int MENUS = 3;
+    private static final int ORDERS = 3;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MenuGroupService menuGroupService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private MenuService menuService;
+
+    @Autowired
+    private OrderTableService orderTableService;
+
+    @Autowired
+    private OrderService orderService;
+
+    private MenuGroup menuGroup;
+    private final List<Product> products = new ArrayList<>();
+    private final List<Menu> menus = new ArrayList<>();
+
+    @BeforeAll
+    void setUp() {
+        final MenuGroup menuGroupRequest = new MenuGroup();
+        menuGroupRequest.setName("추천메뉴");
+        menuGroup = menuGroupService.create(menuGroupRequest);
+
+        for (int i = 0; i < MENUS; i++) {
+            final MenuProduct first = menuProduct(product("후라이드" + i));
+            final MenuProduct second = menuProduct(product("양념치킨" + i));
+            final Menu menuRequest = new Menu();
+            menuRequest.setName("반반치킨" + i);
+            menuRequest.setPrice(Money.from(BigDecimal.valueOf(30_000)));
+            menuRequest.setMenuGroupId(menuGroup.getId());
+            menuRequest.setDisplayed(true);
+            menuRequest.setMenuProducts(List.of(first, second));
+            menus.add(menuService.create(menuRequest));
+        }
+
+        for (int i = 0; i < ORDERS; i++) {
+            orderService.create(eatInOrder(List.of(menus.get(i), menus.get((i + 1) % MENUS))));
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @CsvSource({
+        "/api/menu-groups, 1",
+        "/api/products, 1",
+        "/api/order-tables, 1",
+        "/api/menus, 2",
+        "/api/orders, 3",
+    })
+    void findAllUsesAFixedNumberOfStatements(final String uri, final int expected) throws Exception {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        final List<String> statements = StatementRecorder.record(
+            () -> mockMvc.perform(get(uri).param("size", "100")).andExpect(status().isOk())
+        );
+
+        assertThat(statements).as(String.join("\n", statements)).hasSize(expected);
+    }
+
+    @Test
+    void orderCreationDoesNotIssueStatementsPerLineItem() throws Exception {
+        final Order single = eatInOrder(menus.subList(0, 1));
+        final Order multiple = eatInOrder(menus);
+
+        assertThat(countStatements(() -> orderService.create(multiple)))
+            .isEqualTo(countStatements(() -> orderService.create(single)));
+    }
+
+    @Test
+    void menuCreationDoesNotIssueStatementsPerMenuProduct() throws Exception {
+        final Menu single = menu("후라이드세트", products.subList(0, 1));
+        final Menu multiple = menu("패밀리세트", products.subList(0, MENUS));
+
+        assertThat(countStatements(() -> menuService.create(multiple)))
+            .isEqualTo(countStatements(() -> menuService.create(single)));
+    }
+
+    private int countStatements(final Callable<?> action) throws Exception {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        return StatementRecorder.record(action).size();
+    }
+
+    private Order eatInOrder(final List<Menu> orderedMenus) {
+        final OrderTable orderTableRequest = new OrderTable();
+        orderTableRequest.setName("테이블");
+        final OrderTable orderTable = orderTableService.create(orderTableRequest);
+        orderTableService.sit(orderTable.getId());
+
+        final Order request = new Order();
+        request.setType(OrderType.EAT_IN);
+        request.setOrderTableId(orderTable.getId());
+        request.setOrderLineItems(orderedMenus.stream()
+            .map(QueryCountTest::orderLineItem)
+            .toList());
+        return request;
+    }
+
+    private Menu menu(final String name, final List<Product> menuProducts) {
+        final Menu request = new Menu();
+        request.setName(name);
+        request.setPrice(Money.from(BigDecimal.valueOf(10_000)));
+        request.setMenuGroupId(menuGroup.getId());
+        request.setDisplayed(true);
+        request.setMenuProducts(menuProducts.stream()
+            .map(QueryCountTest::menuProduct)
+            .toList());
+        return request;
+    }
+
+    private Product product(final String name) {
+        final Product request = new Product();
+        request.setName(name);
+        request.setPrice(Money.from(BigDecimal.valueOf(16_000)));
+        final Product product = productService.create(request);
+        products.add(product);
+        return product;
+    }
+
+    private static MenuProduct menuProduct(final Product product) {
+        final MenuProduct menuProduct = new MenuProduct();
+        menuProduct.setProductId(product.getId());
+        menuProduct.setQuantity(1);
+        return menuProduct;
+    }
+
+    private static OrderLineItem orderLineItem(final Menu menu) {
+        final OrderLineItem orderLineItem = new OrderLineItem();
+        orderLineItem.setMenuId(menu.getId());
+        orderLineItem.setPrice(menu.getPrice());
+        orderLineItem.setQuantity(1);
+        return orderLineItem;
+    }
+}